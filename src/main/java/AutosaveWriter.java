@@ -0,0 +1,185 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This writes snapshots of the current game to disk in the background so that progress survives a crash.
+ *
+ * Snapshots are debounced: a burst of guesses only results in a single write of the latest snapshot.
+ * Every write goes to a temporary file first, which then atomically replaces the autosave file.
+ *
+ * @author Pratik Gurung
+ */
+public class AutosaveWriter {
+
+    private static final long DEBOUNCE_MILLIS = 300;
+    private static final long MAX_DELAY_MILLIS = 2000;
+
+    private final Path file;
+    private final Path tempFile;
+
+    private final ScheduledExecutorService writer;
+
+    private String pendingSnapshot;
+    private ScheduledFuture<?> pendingWrite;
+    private long firstPendingTime;
+
+    /**
+     * Creates an autosave writer
+     *
+     * @param file The file that the autosave is written to
+     */
+    public AutosaveWriter(Path file) {
+        this.file = file;
+        this.tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "hangman-autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        writer = executor;
+    }
+
+    /**
+     * Gets the default location of the autosave file in the user's home directory
+     *
+     * @return The default location of the autosave file
+     */
+    public static Path defaultLocation() {
+        return Paths.get(System.getProperty("user.home"), ".hangman", "autosave.hng");
+    }
+
+    /**
+     * Queues a snapshot of the current game to be written once guessing pauses
+     *
+     * @param snapshot The contents of the saved game
+     */
+    public synchronized void schedule(String snapshot) {
+        long now = System.currentTimeMillis();
+
+        if(pendingSnapshot == null) {
+            firstPendingTime = now;
+        }
+        pendingSnapshot = snapshot;
+
+        //Pushing the write back while guesses keep arriving, but never past the maximum delay
+        if(pendingWrite != null && now - firstPendingTime < MAX_DELAY_MILLIS) {
+            pendingWrite.cancel(false);
+            pendingWrite = null;
+        }
+
+        if(pendingWrite == null) {
+            pendingWrite = writer.schedule(this::flush, DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Discards any pending snapshot and deletes the autosave file
+     */
+    public synchronized void clear() {
+        pendingSnapshot = null;
+
+        if(pendingWrite != null) {
+            pendingWrite.cancel(false);
+            pendingWrite = null;
+        }
+
+        //Deleting on the writer thread so that it happens after any write already in progress
+        writer.execute(() -> {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                System.out.println("Could not delete the autosave file");
+            }
+        });
+    }
+
+    /**
+     * Reads the autosave file if there is one
+     *
+     * @return A reader for the autosaved game, or null if there is no autosaved game
+     *
+     * @throws IOException If the autosave file could not be read
+     */
+    public BufferedReader read() throws IOException {
+        if(!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        return Files.newBufferedReader(file, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes any pending snapshot and stops the background writer
+     */
+    public void close() {
+        synchronized (this) {
+            if(pendingWrite != null) {
+                pendingWrite.cancel(false);
+                pendingWrite = null;
+            }
+            writer.execute(this::flush);
+        }
+
+        writer.shutdown();
+
+        try {
+            writer.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes the latest pending snapshot to disk, run on the writer thread
+     */
+    private void flush() {
+        String snapshot;
+
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+            pendingWrite = null;
+        }
+
+        if(snapshot == null) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(file.getParent());
+
+            //Making sure the data is on disk before it replaces the previous autosave
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(snapshot.getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            System.out.println("Could not autosave the current game");
+        }
+    }
+}
@@ -0,0 +1,227 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32;
+
+/**
+ * This holds the words that can be chosen for a game.
+ *
+ * The words are read from the dictionary compiled by {@link DictionaryCompiler} during the build, with a single
+ * read and no text parsing. Words are kept packed together as bytes, grouped by length.
+ *
+ * @author Pratik Gurung
+ */
+public class Dictionary {
+
+    private static final String DICTIONARY_RESOURCE = "/words/words.bin";
+    private static final String WORDS_FILE = "src/main/resources/words/words.txt";
+
+    private static Dictionary instance;
+
+    private final int[] lengthStarts;
+    private final int[] offsets;
+    private final int[] letterMasks;
+    private final byte[] letters;
+
+    /**
+     * Reads a compiled dictionary
+     *
+     * @param data The compiled dictionary
+     *
+     * @throws IOException If the data is not a valid dictionary
+     */
+    public Dictionary(byte[] data) throws IOException {
+        if(data.length < 20) {
+            throw new IOException("The dictionary is truncated");
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length - 4);
+
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+
+        if(buffer.getInt(data.length - 4) != (int) crc.getValue()) {
+            throw new IOException("The dictionary checksum does not match");
+        }
+
+        if(buffer.getInt() != DictionaryCompiler.MAGIC || buffer.getInt() != DictionaryCompiler.VERSION) {
+            throw new IOException("The dictionary is not in a supported format");
+        }
+
+        int count = buffer.getInt();
+        int maxLength = buffer.getInt();
+
+        lengthStarts = new int[maxLength + 2];
+        buffer.asIntBuffer().get(lengthStarts);
+        buffer.position(buffer.position() + 4 * lengthStarts.length);
+
+        offsets = new int[count + 1];
+        buffer.asIntBuffer().get(offsets);
+        buffer.position(buffer.position() + 4 * offsets.length);
+
+        letterMasks = new int[count];
+        buffer.asIntBuffer().get(letterMasks);
+        buffer.position(buffer.position() + 4 * letterMasks.length);
+
+        letters = new byte[offsets[count]];
+        buffer.get(letters);
+    }
+
+    /**
+     * Gets the dictionary, reading it the first time it is needed
+     *
+     * @return The dictionary
+     *
+     * @throws IOException If the dictionary could not be read
+     */
+    public static synchronized Dictionary getInstance() throws IOException {
+        if(instance == null) {
+            InputStream in = Dictionary.class.getResourceAsStream(DICTIONARY_RESOURCE);
+
+            if(in != null) {
+                try {
+                    instance = new Dictionary(in.readAllBytes());
+                } finally {
+                    in.close();
+                }
+            } else {
+                //Compiling words.txt when running without the build, such as from an IDE
+                instance = new Dictionary(DictionaryCompiler.compile(
+                        Files.readAllLines(Paths.get(WORDS_FILE), StandardCharsets.UTF_8)));
+            }
+        }
+
+        return instance;
+    }
+
+    /**
+     * Selects a random word from the dictionary
+     *
+     * @return The selected word
+     */
+    public String getRandomWord() {
+        return getWord(ThreadLocalRandom.current().nextInt(size()));
+    }
+
+    /**
+     * Gets a word from the dictionary
+     *
+     * @param index The index of the word
+     *
+     * @return The word
+     */
+    public String getWord(int index) {
+        return new String(letters, offsets[index], getLength(index), StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Gets the number of letters in a word
+     *
+     * @param index The index of the word
+     *
+     * @return The length of the word
+     */
+    public int getLength(int index) {
+        return offsets[index + 1] - offsets[index];
+    }
+
+    /**
+     * Gets a letter of a word
+     *
+     * @param index The index of the word
+     * @param position The position of the letter in the word
+     *
+     * @return The index of the letter in the alphabet
+     */
+    public int getLetter(int index, int position) {
+        return letters[offsets[index] + position] - 97;
+    }
+
+    /**
+     * Gets the letters that appear in a word
+     *
+     * @param index The index of the word
+     *
+     * @return A mask with bit 0 set if the word contains 'a', up to bit 25 for 'z'
+     */
+    public int getLetterMask(int index) {
+        return letterMasks[index];
+    }
+
+    /**
+     * Gets the index of the first word with the given length. Words are sorted by length and then alphabetically.
+     *
+     * @param length The length of the words
+     *
+     * @return The index of the first word with the given length
+     */
+    public int getFirstWithLength(int length) {
+        return lengthStarts[Math.max(0, Math.min(length, lengthStarts.length - 1))];
+    }
+
+    /**
+     * Gets the index after the last word with the given length
+     *
+     * @param length The length of the words
+     *
+     * @return The index after the last word with the given length
+     */
+    public int getEndWithLength(int length) {
+        return getFirstWithLength(length + 1);
+    }
+
+    /**
+     * Gets the length of the longest word in the dictionary
+     *
+     * @return The length of the longest word
+     */
+    public int getMaxLength() {
+        return lengthStarts.length - 2;
+    }
+
+    /**
+     * Finds a word in the dictionary
+     *
+     * @param word The word, in lowercase
+     *
+     * @return The index of the word, or -1 if it is not in the dictionary
+     */
+    public int indexOf(String word) {
+        int length = word.length();
+        int low = getFirstWithLength(length);
+        int high = getEndWithLength(length) - 1;
+
+        //Words of the same length are sorted alphabetically
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = 0;
+
+            for(int i = 0; i < length && comparison == 0; i++) {
+                comparison = letters[offsets[middle] + i] - word.charAt(i);
+            }
+
+            if(comparison < 0) {
+                low = middle + 1;
+            } else if(comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Gets the number of words in the dictionary
+     *
+     * @return The number of words
+     */
+    public int size() {
+        return letterMasks.length;
+    }
+}
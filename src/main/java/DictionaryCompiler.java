@@ -0,0 +1,129 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+/**
+ * This compiles the word list into the binary dictionary read by {@link Dictionary}, and is run by the build.
+ *
+ * The dictionary is made up of big-endian values in the following order:
+ * <pre>
+ *     int       MAGIC
+ *     int       VERSION
+ *     int       number of words (n)
+ *     int       length of the longest word (m)
+ *     int[m+2]  index of the first word of each length, with words sorted by length and then alphabetically
+ *     int[n+1]  offset of each word in the packed letters, followed by the total number of letters
+ *     int[n]    mask of the letters in each word, with bit 0 for 'a' up to bit 25 for 'z'
+ *     byte[]    packed letters of every word
+ *     int       CRC32 of everything before it
+ * </pre>
+ *
+ * @author Pratik Gurung
+ */
+public class DictionaryCompiler {
+
+    public static final int MAGIC = 0x484E4744;
+    public static final int VERSION = 1;
+
+    /**
+     * Compiles words into a dictionary. Words are lowercased, duplicates are removed and words containing
+     * anything other than letters are skipped.
+     *
+     * @param words The words to compile
+     *
+     * @return The compiled dictionary
+     */
+    public static byte[] compile(List<String> words) {
+        TreeSet<String> sortedWords = new TreeSet<>(Comparator.comparingInt(String::length)
+                .thenComparing(Comparator.naturalOrder()));
+
+        for(String word : words) {
+            word = word.trim().toLowerCase();
+
+            if(word.matches("[a-z]+")) {
+                sortedWords.add(word);
+            }
+        }
+
+        List<String> compiledWords = new ArrayList<>(sortedWords);
+        int count = compiledWords.size();
+        int maxLength = (count == 0) ? 0 : compiledWords.get(count - 1).length();
+
+        int letters = 0;
+        for(String word : compiledWords) {
+            letters += word.length();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(4 * (4 + (maxLength + 2) + (count + 1) + count) + letters + 4);
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(count);
+        buffer.putInt(maxLength);
+
+        //Index of the first word of each length
+        int index = 0;
+        for(int length = 0; length <= maxLength + 1; length++) {
+            while (index < count && compiledWords.get(index).length() < length) {
+                index++;
+            }
+            buffer.putInt(index);
+        }
+
+        int offset = 0;
+        for(String word : compiledWords) {
+            buffer.putInt(offset);
+            offset += word.length();
+        }
+        buffer.putInt(offset);
+
+        for(String word : compiledWords) {
+            int mask = 0;
+            for(int i = 0; i < word.length(); i++) {
+                mask |= 1 << (word.charAt(i) - 97);
+            }
+            buffer.putInt(mask);
+        }
+
+        for(String word : compiledWords) {
+            buffer.put(word.getBytes(StandardCharsets.US_ASCII));
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+
+        return buffer.array();
+    }
+
+    /**
+     * Compiles a word list file into a dictionary file
+     *
+     * @param args The word list file, followed by the dictionary file to create
+     *
+     * @throws IOException If the word list could not be read or the dictionary could not be written
+     */
+    public static void main(String[] args) throws IOException {
+        if(args.length != 2) {
+            System.out.println("Usage: DictionaryCompiler <words.txt> <words.bin>");
+            System.exit(1);
+        }
+
+        Path wordList = Paths.get(args[0]);
+        Path dictionary = Paths.get(args[1]);
+
+        byte[] compiled = compile(Files.readAllLines(wordList, StandardCharsets.UTF_8));
+
+        if(dictionary.getParent() != null) {
+            Files.createDirectories(dictionary.getParent());
+        }
+        Files.write(dictionary, compiled);
+    }
+}
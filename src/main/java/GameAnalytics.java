@@ -0,0 +1,400 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This reports statistics about the guesses made in saved games.
+ *
+ * Directories are listed with directory streams and the saved games are read in parallel on a fork/join pool.
+ * Every worker of the pool counts what it reads in its own arrays, which are added together at the end.
+ * Only saved games are read. The game does not keep logs of play, and scripted games are only saved when a script
+ * saves them, so every game to be reported has to be saved as a .hng file.
+ *
+ * @author Pratik Gurung
+ */
+public class GameAnalytics {
+
+    private static final int BATCH_SIZE = 256;
+    private static final int MAX_LENGTH = 32;
+
+    private final Dictionary dictionary;
+
+    /**
+     * Creates the analytics
+     *
+     * @param dictionary The dictionary used to count results for every word
+     */
+    public GameAnalytics(Dictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Reads every saved game in a directory and its subdirectories
+     *
+     * @param directory The directory
+     * @param pool The pool the saved games are read on
+     *
+     * @return The statistics of the saved games
+     */
+    public Statistics analyze(Path directory, ForkJoinPool pool) {
+        //Statistics counted by every worker of the pool during this call, keyed by the index of the worker
+        ConcurrentHashMap<Integer, Statistics> workerStatistics = new ConcurrentHashMap<>();
+
+        pool.invoke(new DirectoryTask(directory, workerStatistics));
+
+        Statistics statistics = new Statistics(dictionary.size());
+
+        for(Statistics counted : workerStatistics.values()) {
+            statistics.add(counted);
+        }
+
+        return statistics;
+    }
+
+    /**
+     * This lists a directory, reading its saved games and subdirectories in parallel.
+     */
+    private class DirectoryTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Path directory;
+        private final ConcurrentHashMap<Integer, Statistics> workerStatistics;
+
+        /**
+         * Creates the task
+         *
+         * @param directory The directory
+         * @param workerStatistics The statistics counted by every worker of the pool
+         */
+        DirectoryTask(Path directory, ConcurrentHashMap<Integer, Statistics> workerStatistics) {
+            this.directory = directory;
+            this.workerStatistics = workerStatistics;
+        }
+
+        @Override
+        protected void compute() {
+            List<RecursiveAction> tasks = new ArrayList<>();
+            Path[] batch = new Path[BATCH_SIZE];
+            int batchSize = 0;
+
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                for(Path entry : entries) {
+                    if(Files.isDirectory(entry)) {
+                        tasks.add(new DirectoryTask(entry, workerStatistics));
+                        tasks.get(tasks.size() - 1).fork();
+                    } else if(entry.getFileName().toString().endsWith(".hng")) {
+                        batch[batchSize++] = entry;
+
+                        //Reading the saved games in batches while the directory is still being listed
+                        if(batchSize == BATCH_SIZE) {
+                            tasks.add(new FilesTask(batch, batchSize, workerStatistics));
+                            tasks.get(tasks.size() - 1).fork();
+                            batch = new Path[BATCH_SIZE];
+                            batchSize = 0;
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                System.out.println("Could not list " + directory);
+            }
+
+            new FilesTask(batch, batchSize, workerStatistics).compute();
+
+            for(RecursiveAction task : tasks) {
+                task.join();
+            }
+        }
+    }
+
+    /**
+     * This reads a batch of saved games.
+     */
+    private class FilesTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Path[] files;
+        private final int count;
+        private final ConcurrentHashMap<Integer, Statistics> workerStatistics;
+
+        /**
+         * Creates the task
+         *
+         * @param files The saved games
+         * @param count The number of saved games in the batch
+         * @param workerStatistics The statistics counted by every worker of the pool
+         */
+        FilesTask(Path[] files, int count, ConcurrentHashMap<Integer, Statistics> workerStatistics) {
+            this.files = files;
+            this.count = count;
+            this.workerStatistics = workerStatistics;
+        }
+
+        @Override
+        protected void compute() {
+            //No two running workers share an index, so the statistics are only counted into by one thread at a time
+            int worker = ((ForkJoinWorkerThread) Thread.currentThread()).getPoolIndex();
+            Statistics statistics = workerStatistics.computeIfAbsent(worker, index -> new Statistics(dictionary.size()));
+
+            for(int i = 0; i < count; i++) {
+                try (BufferedReader reader = Files.newBufferedReader(files[i], StandardCharsets.UTF_8)) {
+                    statistics.add(HangmanGame.read(reader), dictionary);
+                } catch (Exception e) {
+                    statistics.unreadable++;
+                }
+            }
+        }
+    }
+
+    /**
+     * This holds the counts gathered from saved games.
+     */
+    public static class Statistics {
+
+        long games;
+        long won;
+        long lost;
+        long unfinished;
+        long unreadable;
+
+        final long[] guessed = new long[26];
+        final long[] correct = new long[26];
+        final long[] guessedFirst = new long[26];
+
+        final long[] wonByLength = new long[MAX_LENGTH + 1];
+        final long[] lostByLength = new long[MAX_LENGTH + 1];
+
+        //Number of lost games by the tenth of the word that had been revealed
+        final long[] lostByRevealed = new long[11];
+
+        final long[] wonByWord;
+        final long[] lostByWord;
+
+        /**
+         * Creates empty statistics
+         *
+         * @param words The number of words in the dictionary
+         */
+        Statistics(int words) {
+            wonByWord = new long[words];
+            lostByWord = new long[words];
+        }
+
+        /**
+         * Counts a saved game. Every index is checked before anything is counted, so a game that cannot be counted
+         * leaves the statistics as they were.
+         *
+         * @param game The saved game
+         * @param dictionary The dictionary
+         *
+         * @throws IllegalArgumentException If the saved game is not consistent
+         */
+        void add(HangmanGame game, Dictionary dictionary) {
+            String word = game.getWord();
+
+            if(word == null || word.isEmpty()) {
+                throw new IllegalArgumentException("The saved game has no word");
+            }
+
+            String guessOrder = game.getGuessOrder();
+            int first = (game.isGuessOrderComplete() && !guessOrder.isEmpty()) ? guessOrder.charAt(0) - 97 : -1;
+
+            if(first >= 26) {
+                throw new IllegalArgumentException("The first guess is not a letter");
+            }
+
+            int length = Math.min(word.length(), MAX_LENGTH);
+            int wordIndex = dictionary.indexOf(word);
+            int revealed = game.getCorrectlyGuessed() * 10 / word.length();
+
+            if(game.isLost() && (revealed < 0 || revealed >= lostByRevealed.length)) {
+                throw new IllegalArgumentException("The saved game has more letters revealed than the word has");
+            }
+
+            games++;
+
+            for(int i = 0; i < 26; i++) {
+                if(game.isGuessed(i)) {
+                    guessed[i]++;
+
+                    if(word.indexOf(i + 97) != -1) {
+                        correct[i]++;
+                    }
+                }
+            }
+
+            if(first != -1) {
+                guessedFirst[first]++;
+            }
+
+            if(game.isWon()) {
+                won++;
+                wonByLength[length]++;
+
+                if(wordIndex != -1) {
+                    wonByWord[wordIndex]++;
+                }
+            } else if(game.isLost()) {
+                lost++;
+                lostByLength[length]++;
+                lostByRevealed[revealed]++;
+
+                if(wordIndex != -1) {
+                    lostByWord[wordIndex]++;
+                }
+            } else {
+                unfinished++;
+            }
+        }
+
+        /**
+         * Adds the counts of other statistics to these statistics
+         *
+         * @param other The other statistics
+         */
+        void add(Statistics other) {
+            games += other.games;
+            won += other.won;
+            lost += other.lost;
+            unfinished += other.unfinished;
+            unreadable += other.unreadable;
+
+            addAll(guessed, other.guessed);
+            addAll(correct, other.correct);
+            addAll(guessedFirst, other.guessedFirst);
+            addAll(wonByLength, other.wonByLength);
+            addAll(lostByLength, other.lostByLength);
+            addAll(lostByRevealed, other.lostByRevealed);
+            addAll(wonByWord, other.wonByWord);
+            addAll(lostByWord, other.lostByWord);
+        }
+
+        /**
+         * Adds every count in an array to the counts in another array
+         *
+         * @param counts The counts added to
+         * @param other The counts to add
+         */
+        private static void addAll(long[] counts, long[] other) {
+            for(int i = 0; i < counts.length; i++) {
+                counts[i] += other[i];
+            }
+        }
+
+        /**
+         * Writes a report of the statistics
+         *
+         * @param out Where to write the report
+         * @param dictionary The dictionary
+         */
+        public void report(PrintStream out, Dictionary dictionary) {
+            out.println("Games: " + games + " (won " + won + ", lost " + lost + ", unfinished " + unfinished
+                    + ", unreadable " + unreadable + ")");
+
+            out.println();
+            out.println("Letter  Guessed  Correct  Guessed first");
+            for(int i = 0; i < 26; i++) {
+                out.printf("%-6s  %7d  %6.1f%%  %13d%n", (char) (i + 65), guessed[i],
+                        percentage(correct[i], guessed[i]), guessedFirst[i]);
+            }
+
+            out.println();
+            out.println("Length  Won      Lost     Solved");
+            for(int i = 0; i <= MAX_LENGTH; i++) {
+                if(wonByLength[i] + lostByLength[i] > 0) {
+                    out.printf("%-6s  %-7d  %-7d  %5.1f%%%n", (i == MAX_LENGTH) ? i + "+" : "" + i,
+                            wonByLength[i], lostByLength[i], percentage(wonByLength[i], wonByLength[i] + lostByLength[i]));
+                }
+            }
+
+            out.println();
+            out.println("Word revealed when lost");
+            for(int i = 0; i < lostByRevealed.length; i++) {
+                out.printf("%3d%%+  %d%n", i * 10, lostByRevealed[i]);
+            }
+
+            out.println();
+            out.println("Most solved words");
+            reportTopWords(out, dictionary, wonByWord, lostByWord);
+
+            out.println();
+            out.println("Most failed words");
+            reportTopWords(out, dictionary, lostByWord, wonByWord);
+        }
+
+        /**
+         * Writes the ten words with the highest counts
+         *
+         * @param out Where to write the words
+         * @param dictionary The dictionary
+         * @param counts The counts to rank the words by
+         * @param otherCounts The counts of the opposite result, used to show the solve rate
+         */
+        private static void reportTopWords(PrintStream out, Dictionary dictionary, long[] counts, long[] otherCounts) {
+            boolean[] reported = new boolean[counts.length];
+
+            for(int rank = 0; rank < 10; rank++) {
+                int best = -1;
+
+                for(int i = 0; i < counts.length; i++) {
+                    if(!reported[i] && counts[i] > 0 && (best == -1 || counts[i] > counts[best])) {
+                        best = i;
+                    }
+                }
+
+                if(best == -1) {
+                    break;
+                }
+
+                reported[best] = true;
+                out.printf("  %-30s %d of %d%n", dictionary.getWord(best), counts[best], counts[best] + otherCounts[best]);
+            }
+        }
+
+        /**
+         * Calculates a percentage
+         *
+         * @param count The count
+         * @param total The total
+         *
+         * @return The count as a percentage of the total
+         */
+        private static double percentage(long count, long total) {
+            return (total == 0) ? 0 : 100.0 * count / total;
+        }
+    }
+
+    /**
+     * Reports statistics about the saved games in a directory
+     *
+     * @param directory The directory
+     *
+     * @throws IOException If the dictionary could not be read
+     */
+    public static void run(String directory) throws IOException {
+        Dictionary dictionary = Dictionary.getInstance();
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors() * 2);
+
+        long start = System.nanoTime();
+        Statistics statistics = new GameAnalytics(dictionary).analyze(Paths.get(directory), pool);
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        pool.shutdown();
+
+        statistics.report(System.out, dictionary);
+        System.out.println();
+        System.out.println("Read " + (statistics.games + statistics.unreadable) + " saved games in " + elapsed + " ms");
+    }
+}
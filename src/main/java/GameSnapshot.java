@@ -0,0 +1,121 @@
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This encodes games compactly so that they can be handed between processes.
+ *
+ * A snapshot is the length of the word, the letters of the word, the number of guesses, the index of every
+ * guessed letter in the order they were guessed, the number of hints left and the index of the letter hinted last
+ * (255 if no hint has been used). Every guess after the snapshot is sent as a delta of a single byte holding the
+ * index of the guessed letter, and every hint as a delta holding the index of the hinted letter plus
+ * {@link #HINT_DELTA}. Both are applied by replaying the guesses and hints on a new game.
+ *
+ * @author Pratik Gurung
+ */
+public class GameSnapshot {
+
+    public static final int HINT_DELTA = 32;
+
+    private static final int NO_HINT = 255;
+
+    /**
+     * Writes a snapshot of a game
+     *
+     * @param game The game
+     * @param out Where to write the snapshot
+     *
+     * @throws IOException If the snapshot could not be written
+     */
+    public static void write(HangmanGame game, DataOutput out) throws IOException {
+        byte[] word = game.getWord().getBytes(StandardCharsets.US_ASCII);
+
+        if(word.length > 255) {
+            throw new IOException("Words longer than 255 letters cannot be handed over");
+        }
+
+        String guessOrder = game.isGuessOrderComplete() ? game.getGuessOrder() : getReplayOrder(game);
+
+        out.writeByte(word.length);
+        out.write(word);
+        out.writeByte(guessOrder.length());
+
+        for(int i = 0; i < guessOrder.length(); i++) {
+            out.writeByte(guessOrder.charAt(i) - 97);
+        }
+
+        out.writeByte(Math.min(game.getRemainingHints(), NO_HINT - 1));
+        out.writeByte((game.getHintedLetter() == -1) ? NO_HINT : game.getHintedLetter());
+    }
+
+    /**
+     * Generates an order of guesses that recreates a game saved before the order of guesses was recorded. A won
+     * game has its incorrect guesses replayed first and a lost game its correct guesses, so that the game does
+     * not finish before every guess has been replayed.
+     *
+     * @param game The game
+     *
+     * @return The guessed letters
+     */
+    private static String getReplayOrder(HangmanGame game) {
+        StringBuilder correct = new StringBuilder();
+        StringBuilder incorrect = new StringBuilder();
+
+        for(int i = 0; i < 26; i++) {
+            char letter = (char) (i + 97);
+
+            if(game.isGuessed(i)) {
+                if(game.getWord().indexOf(letter) != -1) {
+                    correct.append(letter);
+                } else {
+                    incorrect.append(letter);
+                }
+            }
+        }
+
+        return game.isWon() ? incorrect.append(correct).toString() : correct.append(incorrect).toString();
+    }
+
+    /**
+     * Reads a snapshot of a game written by {@link #write(HangmanGame, DataOutput)}
+     *
+     * @param in Where to read the snapshot from
+     *
+     * @return The game
+     *
+     * @throws IOException If the snapshot could not be read
+     */
+    public static HangmanGame read(DataInput in) throws IOException {
+        byte[] word = new byte[in.readUnsignedByte()];
+        in.readFully(word);
+
+        HangmanGame game = new HangmanGame(new String(word, StandardCharsets.US_ASCII));
+        int guesses = in.readUnsignedByte();
+
+        for(int i = 0; i < guesses; i++) {
+            apply(game, in.readUnsignedByte());
+        }
+
+        int remainingHints = in.readUnsignedByte();
+        int hintedLetter = in.readUnsignedByte();
+        game.restoreHints(remainingHints, (hintedLetter == NO_HINT) ? -1 : hintedLetter);
+
+        return game;
+    }
+
+    /**
+     * Applies a delta to a game
+     *
+     * @param game The game
+     * @param delta The delta, which is the index of the guessed letter, or of the hinted letter plus
+     *              {@link #HINT_DELTA}
+     */
+    public static void apply(HangmanGame game, int delta) {
+        if(delta >= HINT_DELTA) {
+            game.useHint(delta - HINT_DELTA);
+        } else {
+            game.guess(delta);
+        }
+    }
+}
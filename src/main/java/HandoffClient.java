@@ -0,0 +1,125 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+
+/**
+ * This shares the game played by a process with a {@link HandoffCoordinator}, so that it can be continued
+ * by another process.
+ *
+ * @author Pratik Gurung
+ */
+public class HandoffClient {
+
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+
+    /**
+     * Connects to a coordinator
+     *
+     * @param host The host the coordinator is running on
+     * @param port The port the coordinator is listening on
+     *
+     * @throws IOException If the coordinator could not be reached
+     */
+    public HandoffClient(String host, int port) throws IOException {
+        socket = new Socket(host, port);
+        socket.setTcpNoDelay(true);
+        in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+    }
+
+    /**
+     * Shares a game so that other processes can claim it, returning once the coordinator has accepted it.
+     * Guesses sent afterwards are added to this game.
+     *
+     * @param id The identifier other processes use to claim the game
+     * @param game The game
+     *
+     * @throws IOException If the game could not be sent
+     */
+    public void publish(String id, HangmanGame game) throws IOException {
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        GameSnapshot.write(game, new DataOutputStream(snapshot));
+
+        out.writeByte(HandoffCoordinator.PUBLISH);
+        out.writeUTF(id);
+        out.writeShort(snapshot.size());
+        snapshot.writeTo(out);
+        out.flush();
+
+        //Waiting until the game can be claimed by other processes
+        if(in.readUnsignedByte() != HandoffCoordinator.PUBLISHED) {
+            throw new IOException("The coordinator did not accept the game");
+        }
+    }
+
+    /**
+     * Continues a game shared by another process. Guesses sent afterwards are added to this game, or to the game
+     * that was already being shared if no game was published with the identifier.
+     *
+     * @param id The identifier the game was published with
+     *
+     * @return The game with every guess made so far, or null if no game was published with the identifier
+     *
+     * @throws IOException If the game could not be received
+     */
+    public HangmanGame claim(String id) throws IOException {
+        out.writeByte(HandoffCoordinator.CLAIM);
+        out.writeUTF(id);
+        out.flush();
+
+        if(in.readUnsignedByte() != HandoffCoordinator.FOUND) {
+            return null;
+        }
+
+        in.readUnsignedShort();
+        HangmanGame game = GameSnapshot.read(in);
+
+        int deltas = in.readUnsignedShort();
+        for(int i = 0; i < deltas; i++) {
+            GameSnapshot.apply(game, in.readUnsignedByte());
+        }
+
+        return game;
+    }
+
+    /**
+     * Sends a guess made in the published or claimed game
+     *
+     * @param letter The index of the guessed letter in the alphabet
+     *
+     * @throws IOException If the guess could not be sent
+     */
+    public void sendGuess(int letter) throws IOException {
+        out.writeByte(HandoffCoordinator.DELTA);
+        out.writeByte(letter);
+        out.flush();
+    }
+
+    /**
+     * Sends a hint used in the published or claimed game
+     *
+     * @param letter The index of the hinted letter in the alphabet
+     *
+     * @throws IOException If the hint could not be sent
+     */
+    public void sendHint(int letter) throws IOException {
+        out.writeByte(HandoffCoordinator.DELTA);
+        out.writeByte(GameSnapshot.HINT_DELTA + letter);
+        out.flush();
+    }
+
+    /**
+     * Disconnects from the coordinator
+     *
+     * @throws IOException If the connection could not be closed
+     */
+    public void close() throws IOException {
+        socket.close();
+    }
+}
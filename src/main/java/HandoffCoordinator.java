@@ -0,0 +1,219 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * This keeps track of games that are being played across several processes, so that a player can continue a game
+ * on another process. It stands in for a real coordinator and only listens on the local machine.
+ *
+ * Each connection first either publishes a game with a snapshot, which is acknowledged once it can be claimed, or
+ * claims a game to receive its snapshot and the deltas sent since. Every guess made afterwards is streamed on the
+ * same connection as a two byte delta, as is every hint. The messages are written by {@link HandoffClient}.
+ *
+ * @author Pratik Gurung
+ */
+public class HandoffCoordinator {
+
+    public static final int DEFAULT_PORT = 7070;
+
+    static final int PUBLISH = 1;
+    static final int CLAIM = 2;
+    static final int DELTA = 3;
+
+    static final int FOUND = 1;
+    static final int NOT_FOUND = 0;
+    static final int PUBLISHED = 1;
+
+    private final ConcurrentHashMap<String, SharedGame> games = new ConcurrentHashMap<>();
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService connections;
+
+    /**
+     * Creates a coordinator listening on the local machine
+     *
+     * @param port The port to listen on, or 0 to choose any free port
+     *
+     * @throws IOException If the port could not be opened
+     */
+    public HandoffCoordinator(int port) throws IOException {
+        serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        connections = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "hangman-handoff");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Accepts connections in the background
+     */
+    public void start() {
+        connections.execute(this::acceptConnections);
+    }
+
+    /**
+     * Gets the port the coordinator is listening on
+     *
+     * @return The port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Stops accepting connections
+     *
+     * @throws IOException If the port could not be closed
+     */
+    public void close() throws IOException {
+        serverSocket.close();
+        connections.shutdownNow();
+    }
+
+    /**
+     * Accepts connections until the coordinator is closed
+     */
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                connections.execute(() -> handleConnection(socket));
+            } catch (SocketException e) {
+                //The coordinator has been closed
+            } catch (IOException e) {
+                System.out.println("Could not accept a connection");
+            }
+        }
+    }
+
+    /**
+     * Handles the messages sent on a connection until it is closed
+     *
+     * @param socket The connection
+     */
+    private void handleConnection(Socket socket) {
+        SharedGame game = null;
+
+        try (Socket connection = socket) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(connection.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()));
+
+            while (true) {
+                int message = in.read();
+
+                if(message == -1) {
+                    break;
+                }
+
+                switch(message) {
+                    case PUBLISH:
+                        String publishedId = in.readUTF();
+                        game = new SharedGame(in);
+                        games.put(publishedId, game);
+
+                        //Acknowledging once the game can be claimed, so that the publisher can hand it over
+                        out.writeByte(PUBLISHED);
+                        out.flush();
+                        break;
+                    case CLAIM:
+                        String claimedId = in.readUTF();
+                        SharedGame claimedGame = games.get(claimedId);
+
+                        //A claim that misses leaves the connection sharing the game it was already sharing
+                        if(claimedGame == null) {
+                            out.writeByte(NOT_FOUND);
+                        } else {
+                            game = claimedGame;
+                            out.writeByte(FOUND);
+                            game.writeTo(out);
+                        }
+                        out.flush();
+                        break;
+                    case DELTA:
+                        int delta = in.readUnsignedByte();
+
+                        if(game != null) {
+                            game.addDelta(delta);
+                        }
+                        break;
+                    default:
+                        throw new IOException("Unknown message " + message);
+                }
+            }
+        } catch (EOFException | SocketException e) {
+            //The process playing the game has disconnected
+        } catch (IOException e) {
+            System.out.println("Could not handle a connection: " + e.getMessage());
+        }
+    }
+
+    /**
+     * This holds the snapshot a game was published with and the deltas sent since.
+     */
+    private static class SharedGame {
+
+        private final byte[] snapshot;
+        private final ByteArrayOutputStream deltas = new ByteArrayOutputStream();
+
+        /**
+         * Reads a published game
+         *
+         * @param in Where to read the snapshot from
+         *
+         * @throws IOException If the snapshot could not be read
+         */
+        SharedGame(DataInputStream in) throws IOException {
+            snapshot = new byte[in.readUnsignedShort()];
+            in.readFully(snapshot);
+        }
+
+        /**
+         * Records a guess made in the game
+         *
+         * @param delta The index of the guessed letter
+         */
+        synchronized void addDelta(int delta) {
+            deltas.write(delta);
+        }
+
+        /**
+         * Writes the snapshot and every delta to a process claiming the game
+         *
+         * @param out Where to write the game
+         *
+         * @throws IOException If the game could not be written
+         */
+        synchronized void writeTo(DataOutputStream out) throws IOException {
+            out.writeShort(snapshot.length);
+            out.write(snapshot);
+            out.writeShort(deltas.size());
+            deltas.writeTo(out);
+        }
+    }
+
+    /**
+     * Runs a coordinator until the process is stopped
+     *
+     * @param port The port to listen on
+     *
+     * @throws IOException If the port could not be opened
+     */
+    public static void run(int port) throws IOException {
+        HandoffCoordinator coordinator = new HandoffCoordinator(port);
+        System.out.println("Coordinating games on port " + coordinator.getPort());
+        coordinator.acceptConnections();
+    }
+}
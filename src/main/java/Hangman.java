@@ -1,18 +1,18 @@
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Group;
 import javafx.scene.Node;
 import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
-import javafx.scene.shape.Line;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
@@ -22,11 +22,10 @@ import javafx.stage.Stage;
 import javafx.scene.control.Button;
 
 import java.io.*;
-import java.net.URISyntaxException;
 import java.net.URL;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * This defines the functionality for the game Hangman.
@@ -35,6 +34,12 @@ import java.util.List;
  */
 public class Hangman extends Application {
 
+    //Shared between every screen rather than recreated each time the screen is generated
+    private static final Background SCREEN_BACKGROUND = new Background(new BackgroundFill(Color.grayRgb(210), CornerRadii.EMPTY, Insets.EMPTY));
+    private static final Background TOOLBAR_BACKGROUND = new Background(new BackgroundFill(Color.grayRgb(50), CornerRadii.EMPTY, Insets.EMPTY));
+    private static final Background FOOTER_BACKGROUND = new Background(new BackgroundFill(Color.grayRgb(240), CornerRadii.EMPTY, Insets.EMPTY));
+    private static final Insets WORD_BOX_PADDING = new Insets(0, 1, 0, 1);
+
     private boolean showGame = false;
     private boolean showFooter = false;
 
@@ -45,15 +50,25 @@ public class Hangman extends Application {
     private StackPane[] lettersOfWordToGuess;
     private StackPane[] alphabet;
 
-    private boolean[] guessedLetters;
+    //Boxes for the letters of the word to be guessed, reused by every game and only added to for longer words
+    private StackPane[] wordBoxes = new StackPane[0];
+
+    private final Map<String, Image> toolbarIcons = new HashMap<>();
 
-    private static int remainingGuesses = 10;
-    private int correctlyGuessed = 0;
+    private HangmanGame game;
 
-    private String wordToGuess;
+    private HintEngine hintEngine;
+    private Text hintText;
 
     private Boolean newGame;
 
+    private final HangmanRenderer hangmanRenderer = new HangmanRenderer();
+
+    private final KeyInputBuffer keyInput = new KeyInputBuffer();
+    private AnimationTimer keyInputPump;
+
+    private final AutosaveWriter autosave = new AutosaveWriter(AutosaveWriter.defaultLocation());
+
     /**
      * Generates the screen
      *
@@ -65,14 +80,42 @@ public class Hangman extends Application {
     public void start(Stage primaryStage) throws Exception {
         if(newGame == null) {
             newGame = true;
+            restoreAutosave();
+            MemoryBudget.watch();
+
+            //Keys released while another window has focus would otherwise be taken as still held down
+            primaryStage.focusedProperty().addListener((observable, wasFocused, focused) -> {
+                if(!focused) {
+                    keyInput.releaseAll();
+                }
+            });
         }
 
         primaryStage.setTitle("Hangman");
 
+        //The scene is kept and only its contents replaced, as the nodes reused between screens would otherwise keep
+        //a listener on the window for every scene they were moved out of
+        if(primaryStage.getScene() == null) {
+            primaryStage.setScene(new Scene(createScreen(primaryStage), 1000, 500));
+        } else {
+            primaryStage.getScene().setRoot(createScreen(primaryStage));
+        }
+
+        primaryStage.show();
+    }
+
+    /**
+     * Generates everything shown on the screen
+     *
+     * @param primaryStage The screen on which the game is being displayed
+     *
+     * @return The contents of the screen
+     */
+    public BorderPane createScreen(Stage primaryStage) {
         BorderPane borderPane = new BorderPane();
-        borderPane.setBackground(new Background(new BackgroundFill(Color.grayRgb(210), CornerRadii.EMPTY, Insets.EMPTY)));
+        borderPane.setBackground(SCREEN_BACKGROUND);
 
-        Group hangmanImage = createHangmanImage();
+        Canvas hangmanImage = createHangmanImage();
         borderPane.getChildren().add(hangmanImage);
 
         VBox screen = new VBox();
@@ -93,9 +136,51 @@ public class Hangman extends Application {
         HBox footer = createFooter(primaryStage);
         borderPane.setBottom(footer);
 
-        Scene scene = new Scene(borderPane, 1000, 500);
-        primaryStage.setScene(scene);
-        primaryStage.show();
+        return borderPane;
+    }
+
+    /**
+     * Writes any pending autosave before the program closes
+     */
+    @Override
+    public void stop() {
+        autosave.close();
+    }
+
+    /**
+     * Resumes the game that was in progress when the program last closed, if there was one
+     */
+    public void restoreAutosave() {
+        try {
+            BufferedReader reader = autosave.read();
+
+            if(reader != null) {
+                try {
+                    setGame(HangmanGame.read(reader));
+                } finally {
+                    reader.close();
+                }
+
+                newGame = false;
+            }
+        } catch (Exception e) {
+            System.out.println("Could not restore the autosaved game");
+            autosave.clear();
+        }
+    }
+
+    /**
+     * Replaces the game being played, discarding the hints of the previous game
+     *
+     * @param game The new game
+     */
+    public void setGame(HangmanGame game) {
+        this.game = game;
+        resetHints();
+
+        showGame = true;
+        showFooter = true;
+        disableStartPlaying = false;
     }
 
     /**
@@ -122,7 +207,7 @@ public class Hangman extends Application {
 
         HBox toolbar = new HBox();
         toolbar.getChildren().addAll(newGame, load, save, exit);
-        toolbar.setBackground(new Background(new BackgroundFill(Color.grayRgb(50), CornerRadii.EMPTY, Insets.EMPTY)));
+        toolbar.setBackground(TOOLBAR_BACKGROUND);
         toolbar.setPadding(new Insets(10, 0, 10, 5));
 
         return toolbar;
@@ -137,10 +222,10 @@ public class Hangman extends Application {
      */
     public Button createToolbarButton(String name) {
         Button button = new Button(name);
-        File file = new File("src/main/resources/icons/" + name + ".png");
-        Image icon = new Image(file.toURI().toString());
+        Image icon = toolbarIcons.computeIfAbsent(name,
+                iconName -> new Image(new File("src/main/resources/icons/" + iconName + ".png").toURI().toString()));
         button.setGraphic(new ImageView(icon));
-        button.setBackground(new Background(new BackgroundFill(Color.grayRgb(50), CornerRadii.EMPTY, Insets.EMPTY)));
+        button.setBackground(TOOLBAR_BACKGROUND);
         button.setTextFill(Color.WHITE);
         button.setStyle("-fx-border-color: grey");
         return button;
@@ -156,39 +241,24 @@ public class Hangman extends Application {
             loadNewGamePopup(primaryStage);
         } else {
             try {
-                //Selecting a random word from words.txt
-                BufferedReader reader = new BufferedReader(new FileReader("src/main/resources/words/words.txt"));
-
-                List<String> words = new ArrayList<String>();
-                String word = reader.readLine();
-
-                while (word != null) {
-                    words.add(word);
-                    word = reader.readLine();
-                }
-
-                int randomIndex = (int) (Math.random() * (double) (words.size()));
-                wordToGuess = words.get(randomIndex).toLowerCase();
+                //Selecting a random word from the dictionary
+                setGame(new HangmanGame(Dictionary.getInstance().getRandomWord()));
 
                 //Initializing class variables
-                showGame = true;
-                showFooter = true;
-                disableStartPlaying = false;
                 gameInProgress = false;
                 newGame = true;
 
-                remainingGuesses = 10;
-                correctlyGuessed = 0;
+                autosave.clear();
 
                 HBox footer = (HBox) primaryStage.getScene().getRoot().getChildrenUnmodifiable().get(primaryStage.getScene().getRoot().getChildrenUnmodifiable().size() - 1);
                 footer.setVisible(true);
                 footer.getChildren().get(0).setDisable(false);
 
                 start(primaryStage);
-            } catch (URISyntaxException e) {
-                System.out.println("Could not find \"words.txt\"");
+            } catch (FileNotFoundException e) {
+                System.out.println("Could not find the dictionary");
             } catch(IOException e) {
-                System.out.println("Could not read \"words.txt\"");
+                System.out.println("Could not read the dictionary");
             } catch (Exception e) {
                 e.printStackTrace();
             }
@@ -213,25 +283,11 @@ public class Hangman extends Application {
             if (selectedFile != null) {
                 try {
                     BufferedReader reader = new BufferedReader(new FileReader(selectedFile));
+                    setGame(HangmanGame.read(reader));
+                    reader.close();
 
-                    //Generating the game from data saved on selected file
-                    wordToGuess = reader.readLine();
-                    remainingGuesses = Integer.valueOf(reader.readLine());
-                    correctlyGuessed = Integer.valueOf(reader.readLine());
+                    autosave.schedule(game.toSaveData());
 
-                    String guessedLettersString = reader.readLine();
-                    guessedLettersString = guessedLettersString.substring(1, guessedLettersString.length() - 1);
-                    String[] guessedLettersStringArray = guessedLettersString.split(",");
-
-                    guessedLetters = new boolean[26];
-
-                    for (int i = 0; i < guessedLettersStringArray.length; i++) {
-                        guessedLetters[i] = Boolean.valueOf(guessedLettersStringArray[i].trim().toLowerCase());
-                    }
-
-                    showGame = true;
-                    showFooter = true;
-                    disableStartPlaying = false;
                     newGame = false;
 
                     HBox footer = (HBox) primaryStage.getScene().getRoot().getChildrenUnmodifiable().get(primaryStage.getScene().getRoot().getChildrenUnmodifiable().size() - 1);
@@ -307,22 +363,7 @@ public class Hangman extends Application {
      * @param primaryStage The screen on which the game is being displayed
      */
     public void saveCurrentGame(Stage primaryStage) {
-        //Generating data to be saved about the progress of the current game in the form of text
-        String guessedLettersString = "[";
-
-        for(int i = 0; i < guessedLetters.length; i++) {
-            guessedLettersString += guessedLetters[i];
-            if(i != guessedLetters.length - 1) {
-                guessedLettersString += ", ";
-            } else {
-                guessedLettersString += "]";
-            }
-        }
-
-        String hangmanFile = wordToGuess + "\n"
-                + remainingGuesses + "\n"
-                + correctlyGuessed + "\n"
-                + guessedLettersString;
+        String hangmanFile = game.toSaveData();
 
         //Allowing the user to choose where to save the current game data
         FileChooser fileChooser = new FileChooser();
@@ -525,51 +566,11 @@ public class Hangman extends Application {
      *
      * @return The image of the hanging man
      */
-    public Group createHangmanImage() {
-        Group hangmanImage = new Group();
-
-        Line base = new Line(40, 370, 290,370);
-        base.setStrokeWidth(5);
-
-        Line verticalLine = new Line(40, 370, 40, 130);
-        verticalLine.setStrokeWidth(5);
-
-        Line horizontalLine = new Line(40, 130, 210, 130);
-        horizontalLine.setStrokeWidth(5);
-
-        Line hangRope = new Line(210, 130, 210, 165);
-        hangRope.setStrokeWidth(5);
-
-        Circle head = new Circle(210, 190, 25);
-        head.setFill(Color.TRANSPARENT);
-        head.setStroke(Color.BLACK);
-        head.setStrokeWidth(5);
-
-        Line body = new Line(210, 215, 210, 285);
-        body.setStrokeWidth(5);
-
-        Line leftLeg = new Line(210, 285, 185, 310);
-        leftLeg.setStrokeWidth(5);
-
-        Line rightLeg = new Line(210, 285, 235, 310);
-        rightLeg.setStrokeWidth(5);
-
-        Line leftArm = new Line(210, 235, 190, 265);
-        leftArm.setStrokeWidth(5);
-
-        Line rightArm = new Line(210, 235, 230, 265);
-        rightArm.setStrokeWidth(5);
-
-        ObservableList<Node> children = hangmanImage.getChildren();
-
-        children.addAll(base, verticalLine, horizontalLine, hangRope,
-                head, body, leftLeg, rightLeg, leftArm, rightArm);
-
-        for(int i = 10 - 1; i >= 10 - remainingGuesses; i--) {
-            children.get(i).setVisible(false);
-        }
-
-        return hangmanImage;
+    public Canvas createHangmanImage() {
+        //The same canvas is reused between screens, drawn with the parts for the guesses missed so far
+        int remainingGuesses = (game == null) ? HangmanGame.MAX_GUESSES : game.getRemainingGuesses();
+        hangmanRenderer.show(HangmanRenderer.PARTS - remainingGuesses);
+        return hangmanRenderer.getCanvas();
     }
 
     /**
@@ -595,10 +596,12 @@ public class Hangman extends Application {
      */
     public VBox createRightSide() {
         VBox rightSide = new VBox();
+        int remainingGuesses = (game == null) ? HangmanGame.MAX_GUESSES : game.getRemainingGuesses();
         Text remainingGuessesText = new Text("Remaining Guesses: " + remainingGuesses);
         HBox wordBoxes = createWordBoxes(newGame);
         VBox letters = createLetters();
-        rightSide.getChildren().addAll(remainingGuessesText, wordBoxes, letters);
+        hintText = new Text(getHintMessage());
+        rightSide.getChildren().addAll(remainingGuessesText, wordBoxes, letters, hintText);
         rightSide.setPadding(new Insets(0, 20, 0, 0));
         return rightSide;
     }
@@ -611,42 +614,58 @@ public class Hangman extends Application {
      * @return The boxes for the letters of the word to be guessed
      */
     public HBox createWordBoxes(boolean newGame) {
-        HBox wordBoxes = new HBox();
+        HBox wordBoxesRow = new HBox();
 
         if(showGame) {
-            if(newGame) {
-                guessedLetters = new boolean[26];
-                Arrays.fill(guessedLetters, false);
+            String wordToGuess = game.getWord();
+
+            if(wordBoxes.length < wordToGuess.length()) {
+                int created = wordBoxes.length;
+                wordBoxes = Arrays.copyOf(wordBoxes, wordToGuess.length());
+
+                for(int i = created; i < wordBoxes.length; i++) {
+                    wordBoxes[i] = createWordBox();
+                }
             }
 
-            lettersOfWordToGuess = new StackPane[wordToGuess.length()];
+            lettersOfWordToGuess = Arrays.copyOf(wordBoxes, wordToGuess.length());
 
             for (int i = 0; i < wordToGuess.length(); i++) {
-                StackPane stackPane = new StackPane();
+                StackPane stackPane = lettersOfWordToGuess[i];
+
+                ((Rectangle) stackPane.getChildren().get(0)).setFill(Color.BLACK);
 
-                Rectangle rec = new Rectangle(20, 20);
-                rec.setFill(Color.BLACK);
+                Text letter = (Text) stackPane.getChildren().get(1);
+                letter.setText(String.valueOf(Character.toUpperCase(wordToGuess.charAt(i))));
+                letter.setVisible(game.isGuessed(((int) wordToGuess.charAt(i)) - 97));
 
-                Text letter = new Text(("" + wordToGuess.charAt(i)).toUpperCase());
-                letter.setFill(Color.WHITE);
+                wordBoxesRow.getChildren().add(stackPane);
+            }
+        }
 
-                int index = (int) wordToGuess.charAt(i);
+        wordBoxesRow.setPadding(new Insets(20, 0 ,20, 0));
 
-                if(!guessedLetters[((int) wordToGuess.charAt(i)) - 97]) {
-                    letter.setVisible(false);
-                }
+        return wordBoxesRow;
+    }
 
-                stackPane.getChildren().addAll(rec, letter);
-                stackPane.setPadding(new Insets(0, 1, 0, 1));
+    /**
+     * Generates an empty box for a letter of the word to be guessed
+     *
+     * @return The box
+     */
+    public StackPane createWordBox() {
+        StackPane stackPane = new StackPane();
 
-                lettersOfWordToGuess[i] = stackPane;
-                wordBoxes.getChildren().add(stackPane);
-            }
-        }
+        Rectangle rec = new Rectangle(20, 20);
+        rec.setFill(Color.BLACK);
 
-        wordBoxes.setPadding(new Insets(20, 0 ,20, 0));
+        Text letter = new Text();
+        letter.setFill(Color.WHITE);
 
-        return wordBoxes;
+        stackPane.getChildren().addAll(rec, letter);
+        stackPane.setPadding(WORD_BOX_PADDING);
+
+        return stackPane;
     }
 
     /**
@@ -656,9 +675,17 @@ public class Hangman extends Application {
      */
     public VBox createLetters() {
         VBox letters = new VBox();
-        alphabet = new StackPane[26];
 
         if(showGame) {
+            //The letters are created once and moved to the new screen each time it is generated
+            if(alphabet == null) {
+                alphabet = new StackPane[26];
+
+                for(int i = 0; i < alphabet.length; i++) {
+                    alphabet[i] = createAlphabetLetter(i);
+                }
+            }
+
             letters.getChildren().addAll(createAlphabet(0), createAlphabet(7),
                     createAlphabet(14), createAlphabet(21));
         }
@@ -679,29 +706,44 @@ public class Hangman extends Application {
         int end = (start == 21) ? 26 : (start + 7);
 
         for(int i = start; i < end; i++) {
-            StackPane stackPane = new StackPane();
-
-            Rectangle rec = new Rectangle(41, 41);
+            Rectangle rec = (Rectangle) alphabet[i].getChildren().get(0);
 
             //The game could be resumed from a saved state so some letters could have been guessed already
-            if(guessedLetters[i])
+            if(game.isGuessed(i))
                 rec.setFill(Color.DARKOLIVEGREEN);
+            else if(i == game.getHintedLetter())
+                rec.setFill(Color.GOLDENROD);
             else
                 rec.setFill(Color.GREEN);
 
-            Text letter = new Text("" + (char) (i + 65));
-            letter.setFill(Color.WHITE);
-
-            stackPane.getChildren().addAll(rec, letter);
-            stackPane.setStyle("-fx-border-color: white");
-
-            alphabet[i] = stackPane;
-            row.getChildren().add(stackPane);
+            row.getChildren().add(alphabet[i]);
         }
 
         return row;
     }
 
+    /**
+     * Generates a single letter of the alphabet
+     *
+     * @param index The index of the letter in the alphabet
+     *
+     * @return The letter
+     */
+    public StackPane createAlphabetLetter(int index) {
+        StackPane stackPane = new StackPane();
+
+        Rectangle rec = new Rectangle(41, 41);
+        rec.setFill(Color.GREEN);
+
+        Text letter = new Text("" + (char) (index + 65));
+        letter.setFill(Color.WHITE);
+
+        stackPane.getChildren().addAll(rec, letter);
+        stackPane.setStyle("-fx-border-color: white");
+
+        return stackPane;
+    }
+
     /**
      * Generates the footer of the page
      *
@@ -711,7 +753,7 @@ public class Hangman extends Application {
      */
     public HBox createFooter(Stage primaryStage) {
         HBox footer = new HBox();
-        footer.setBackground(new Background(new BackgroundFill(Color.grayRgb(240), CornerRadii.EMPTY, Insets.EMPTY)));
+        footer.setBackground(FOOTER_BACKGROUND);
         Button startPlaying = new Button();
         startPlaying.setText("Start Playing");
         startPlaying.setOnMouseClicked(e -> startGame(primaryStage));
@@ -731,8 +773,25 @@ public class Hangman extends Application {
     public void startGame(Stage primaryStage) {
         showGame = true;
 
+        keyInput.clear();
+        keyInput.releaseAll();
+
+        if(keyInputPump != null) {
+            keyInputPump.stop();
+        }
+
+        //Applying the buffered guesses once per pulse rather than once per key event
+        keyInputPump = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                applyBufferedGuesses(primaryStage);
+            }
+        };
+
         Scene scene = primaryStage.getScene();
         scene.setOnKeyPressed(e -> handleKeyPress(e, primaryStage));
+        scene.setOnKeyReleased(e -> handleKeyRelease(e));
+        scene.setOnKeyTyped(e -> handleKeyTyped(e, primaryStage));
 
         ObservableList<Node> nodes = primaryStage.getScene().getRoot().getChildrenUnmodifiable();
         nodes.get(nodes.size() - 1).setDisable(true);
@@ -745,64 +804,193 @@ public class Hangman extends Application {
      * @param primaryStage The screen on which the game is being displayed
      */
     public void handleKeyPress(KeyEvent e, Stage primaryStage) {
-        KeyCode code = e.getCode();
-        int index = -1;
+        int index = getLetterIndex(e.getCode());
 
-        if(code.isLetterKey()) {
-            char typedLetter = e.getCode().getName().toLowerCase().charAt(0);
+        if(index != -1 && keyInput.press(index, game.isGuessed(index))) {
+            keyInputPump.start();
+        }
+    }
 
-            for (int i = 0; i < alphabet.length; i++) {
-                char letter = (char) (i + 97);
+    /**
+     * Handles when a character is typed by the player. Hints are asked for with ?, whichever keys type it.
+     *
+     * @param e The event
+     * @param primaryStage The screen on which the game is being displayed
+     */
+    public void handleKeyTyped(KeyEvent e, Stage primaryStage) {
+        if(e.getCharacter().equals("?")) {
+            showHint(primaryStage);
+        }
+    }
 
-                if(typedLetter == letter) {
-                    index = i;
-                    break;
+    /**
+     * Handles when a key is released by the player
+     *
+     * @param e The event
+     */
+    public void handleKeyRelease(KeyEvent e) {
+        int index = getLetterIndex(e.getCode());
+
+        if(index != -1) {
+            keyInput.release(index);
+        }
+    }
+
+    /**
+     * Finds the position in the alphabet of the letter on a key
+     *
+     * @param code The key
+     *
+     * @return The index of the letter in the alphabet, or -1 if the key is not a letter
+     */
+    public int getLetterIndex(KeyCode code) {
+        if(!code.isLetterKey()) {
+            return -1;
+        }
+
+        return code.getName().toLowerCase().charAt(0) - 97;
+    }
+
+    /**
+     * Applies every guess buffered since the last pulse
+     *
+     * @param primaryStage The screen on which the game is being displayed
+     */
+    public void applyBufferedGuesses(Stage primaryStage) {
+        int index = keyInput.poll();
+
+        //Letters typed after the game finished are dropped
+        if(index == -1 || game.isFinished()) {
+            keyInput.clear();
+            keyInputPump.stop();
+            return;
+        }
+
+        ObservableList<Node> screenElements = primaryStage.getScene().getRoot().getChildrenUnmodifiable();
+
+        if(!gameInProgress) {
+            ObservableList<Node> buttons = ((HBox) ((VBox) screenElements.get(1)).getChildren().get(0)).getChildren();
+            buttons.get(2).setDisable(false);
+            buttons.get(3).setDisable(false);
+            gameInProgress = true;
+        }
+
+        int previousRemainingGuesses = game.getRemainingGuesses();
+
+        while (index != -1 && !game.isFinished()) {
+            guessLetter(index);
+            index = keyInput.poll();
+        }
+
+        int remainingGuesses = game.getRemainingGuesses();
+
+        if(remainingGuesses != previousRemainingGuesses) {
+            hangmanRenderer.reveal(HangmanRenderer.PARTS - remainingGuesses);
+
+            ((Text) ((VBox) (((BorderPane) ((VBox) ((VBox) screenElements.get(1)).getChildren().get(1)).
+                    getChildren().get(1)).getRight())).getChildren().get(0)).
+                    setText("Remaining Guesses: " + remainingGuesses);
+        }
+
+        if(game.isFinished()) {
+            //The key that finished the game is released once the popup has focus, so it is never reported
+            keyInput.clear();
+            keyInput.releaseAll();
+            keyInputPump.stop();
+
+            //Popups cannot wait for the player while a pulse is being processed
+            boolean won = game.isWon();
+            Platform.runLater(() -> createSingleButtonPopup(primaryStage, won));
+        } else {
+            autosave.schedule(game.toSaveData());
+        }
+    }
+
+    /**
+     * Applies a single guess to the game
+     *
+     * @param index The index of the guessed letter in the alphabet
+     */
+    public void guessLetter(int index) {
+        int revealed = game.guess(index);
+
+        if(revealed == -1) {
+            return;
+        }
+
+        if(hintEngine != null) {
+            hintEngine.update(index);
+        }
+
+        //Indicating to the player that the letter has been guessed
+        ((Rectangle) (alphabet[index].getChildren().get(0))).setFill(Color.DARKOLIVEGREEN);
+
+        if(revealed > 0) {
+            String wordToGuess = game.getWord();
+            char letter = (char) (index + 97);
+
+            for(int i = 0; i < wordToGuess.length(); i++) {
+                if(wordToGuess.charAt(i) == letter) {
+                    lettersOfWordToGuess[i].getChildren().get(1).setVisible(true);
                 }
             }
+        }
+    }
 
-            if(!guessedLetters[index]) {
-                //Indicating to the player that the letter has been guessed
-                guessedLetters[index] = true;
-                ((Rectangle) (alphabet[index].getChildren().get(0))).setFill(Color.DARKOLIVEGREEN);
+    /**
+     * Highlights the letter suggested by a hint, if the player has any hints left
+     *
+     * @param primaryStage The screen on which the game is being displayed
+     */
+    public void showHint(Stage primaryStage) {
+        //Hints take into account the guesses that have not been applied yet
+        if(!keyInput.isEmpty()) {
+            applyBufferedGuesses(primaryStage);
+        }
 
-                String letter = ((Text) (alphabet[index].getChildren().get(1))).getText().toLowerCase();
-                boolean containsLetter = wordToGuess.contains("" + typedLetter);
+        if(game.isFinished()) {
+            return;
+        }
 
-                ObservableList<Node> screenElements = primaryStage.getScene().getRoot().getChildrenUnmodifiable();
+        try {
+            //Hints are only prepared for games in which they are asked for
+            if(hintEngine == null) {
+                hintEngine = new HintEngine(LetterFrequencies.getInstance(), game);
+            }
+        } catch (IOException e) {
+            System.out.println("Could not read the dictionary");
+            return;
+        }
 
-                if(!gameInProgress) {
-                    ObservableList<Node> buttons = ((HBox) ((VBox) screenElements.get(1)).getChildren().get(0)).getChildren();
-                    buttons.get(2).setDisable(false);
-                    buttons.get(3).setDisable(false);
-                    gameInProgress = true;
-                }
+        int previousHint = game.getHintedLetter();
+        int letter = hintEngine.useHint();
 
-                if(containsLetter) {
-                    for(int i = 0; i < wordToGuess.length(); i++) {
-                        if(wordToGuess.charAt(i) == letter.charAt(0)) {
-                            lettersOfWordToGuess[i].getChildren().get(1).setVisible(true);
-                            correctlyGuessed++;
-                        }
-                    }
-
-                    if(correctlyGuessed == wordToGuess.length()) {
-                        createSingleButtonPopup(primaryStage, true);
-                    }
-                } else {
-                    ((Group) screenElements.get(0)).getChildren().get(10 - remainingGuesses).setVisible(true);
-
-                    remainingGuesses--;
-
-                    ((Text) ((VBox) (((BorderPane) ((VBox) ((VBox) screenElements.get(1)).getChildren().get(1)).
-                            getChildren().get(1)).getRight())).getChildren().get(0)).
-                            setText("Remaining Guesses: " + remainingGuesses);
-
-                    if(remainingGuesses == 0) {
-                        createSingleButtonPopup(primaryStage, false);
-                    }
-                }
+        if(letter != -1) {
+            if(previousHint != -1 && !game.isGuessed(previousHint)) {
+                ((Rectangle) (alphabet[previousHint].getChildren().get(0))).setFill(Color.GREEN);
             }
+
+            ((Rectangle) (alphabet[letter].getChildren().get(0))).setFill(Color.GOLDENROD);
         }
+
+        hintText.setText(getHintMessage());
+    }
+
+    /**
+     * Generates the message telling the player how many hints they have left
+     *
+     * @return The message
+     */
+    public String getHintMessage() {
+        int remainingHints = (game == null) ? HintEngine.getHintsPerGame() : game.getRemainingHints();
+        return "Press ? for a hint (" + remainingHints + " left)";
+    }
+
+    /**
+     * Discards the candidate words of the previous game. The hints left are kept by the game itself.
+     */
+    public void resetHints() {
+        hintEngine = null;
     }
 
     /**
@@ -818,6 +1006,11 @@ public class Hangman extends Application {
 
         gameInProgress = false;
 
+        //A finished game should not be resumed on the next launch
+        autosave.clear();
+
+        MemoryBudget.check("finishing a game");
+
         Stage stage = new Stage();
         VBox screen = new VBox();
         Text text = new Text();
@@ -825,7 +1018,7 @@ public class Hangman extends Application {
         if(won) {
             text.setText("You won!");
         } else {
-            text.setText("You lost (the word was \""  + wordToGuess + "\")");
+            text.setText("You lost (the word was \""  + game.getWord() + "\")");
             for(int i = 0; i < lettersOfWordToGuess.length; i++) {
                 StackPane letter = lettersOfWordToGuess[i];
                 if(!letter.getChildren().get(1).isVisible()) {
@@ -839,6 +1032,7 @@ public class Hangman extends Application {
         close.setOnMouseClicked(e -> {
             stage.close();
             primaryStage.getScene().setOnKeyPressed(event -> {});
+            primaryStage.getScene().setOnKeyTyped(event -> {});
         });
 
         screen.getChildren().addAll(text, close);
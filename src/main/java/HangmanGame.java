@@ -0,0 +1,352 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * This holds the state of a single game of Hangman, independently of how the game is displayed.
+ *
+ * @author Pratik Gurung
+ */
+public class HangmanGame {
+
+    public static final int MAX_GUESSES = 10;
+
+    private final String word;
+    private final boolean[] guessedLetters;
+
+    private final byte[] guessOrder = new byte[26];
+    private int guessCount = 0;
+
+    private int remainingGuesses;
+    private int correctlyGuessed;
+
+    //Hints are part of the game, so that resuming a game does not give the player new hints
+    private int remainingHints = HintEngine.getHintsPerGame();
+    private int hintedLetter = -1;
+
+    /**
+     * Starts a new game
+     *
+     * @param word The word to be guessed
+     */
+    public HangmanGame(String word) {
+        this(word.toLowerCase(), new boolean[26], MAX_GUESSES, 0);
+    }
+
+    /**
+     * Creates a game from its saved state
+     *
+     * @param word The word to be guessed
+     * @param guessedLetters The letters of the alphabet that have been guessed
+     * @param remainingGuesses The number of incorrect guesses left
+     * @param correctlyGuessed The number of letters of the word that have been revealed
+     */
+    private HangmanGame(String word, boolean[] guessedLetters, int remainingGuesses, int correctlyGuessed) {
+        this.word = word;
+        this.guessedLetters = guessedLetters;
+        this.remainingGuesses = remainingGuesses;
+        this.correctlyGuessed = correctlyGuessed;
+    }
+
+    /**
+     * Generates a game from data saved by {@link #toSaveData()}
+     *
+     * @param reader The reader for the saved data
+     *
+     * @return The saved game
+     *
+     * @throws IOException If the saved data could not be read
+     */
+    public static HangmanGame read(BufferedReader reader) throws IOException {
+        String word = reader.readLine();
+        int remainingGuesses = Integer.valueOf(reader.readLine());
+        int correctlyGuessed = Integer.valueOf(reader.readLine());
+
+        String guessedLettersString = reader.readLine();
+        guessedLettersString = guessedLettersString.substring(1, guessedLettersString.length() - 1);
+        String[] guessedLettersStringArray = guessedLettersString.split(",");
+
+        boolean[] guessedLetters = new boolean[26];
+
+        for (int i = 0; i < guessedLettersStringArray.length; i++) {
+            guessedLetters[i] = Boolean.valueOf(guessedLettersStringArray[i].trim().toLowerCase());
+        }
+
+        HangmanGame game = new HangmanGame(word, guessedLetters, remainingGuesses, correctlyGuessed);
+
+        //Games saved before the order of guesses was recorded do not have this line
+        String guessOrderString = reader.readLine();
+
+        if(guessOrderString != null && game.isValidGuessOrder(guessOrderString.trim())) {
+            guessOrderString = guessOrderString.trim();
+
+            for(int i = 0; i < guessOrderString.length(); i++) {
+                game.guessOrder[i] = (byte) (guessOrderString.charAt(i) - 97);
+            }
+            game.guessCount = guessOrderString.length();
+        }
+
+        //Games saved before hints were recorded do not have this line, and get every hint
+        String hintsString = reader.readLine();
+
+        if(hintsString != null && hintsString.trim().matches("\\d{1,3} [a-z-]")) {
+            String[] hints = hintsString.trim().split(" ");
+            char hinted = hints[1].charAt(0);
+            game.restoreHints(Integer.parseInt(hints[0]), (hinted == '-') ? -1 : hinted - 97);
+        }
+
+        return game;
+    }
+
+    /**
+     * Checks whether a saved order of guesses lists exactly the guessed letters, each of them once.
+     * Any other order is ignored and the game is treated as one saved before the order was recorded.
+     *
+     * @param guessOrder The saved order of guesses
+     *
+     * @return Whether the order can be used
+     */
+    private boolean isValidGuessOrder(String guessOrder) {
+        boolean[] listed = new boolean[26];
+
+        for(int i = 0; i < guessOrder.length(); i++) {
+            int letter = guessOrder.charAt(i) - 97;
+
+            if(letter < 0 || letter >= 26 || listed[letter] || !guessedLetters[letter]) {
+                return false;
+            }
+            listed[letter] = true;
+        }
+
+        return isGuessOrderComplete(guessOrder.length());
+    }
+
+    /**
+     * Generates data to be saved about the progress of the game in the form of text
+     *
+     * @return The saved game data
+     */
+    public String toSaveData() {
+        StringBuilder guessedLettersString = new StringBuilder("[");
+
+        for(int i = 0; i < guessedLetters.length; i++) {
+            guessedLettersString.append(guessedLetters[i]);
+            if(i != guessedLetters.length - 1) {
+                guessedLettersString.append(", ");
+            } else {
+                guessedLettersString.append("]");
+            }
+        }
+
+        return word + "\n"
+                + remainingGuesses + "\n"
+                + correctlyGuessed + "\n"
+                + guessedLettersString + "\n"
+                + getGuessOrder() + "\n"
+                + remainingHints + " " + ((hintedLetter == -1) ? '-' : (char) (hintedLetter + 97));
+    }
+
+    /**
+     * Guesses a letter
+     *
+     * @param letter The index of the guessed letter in the alphabet
+     *
+     * @return The number of letters of the word revealed by the guess, 0 if the guess was incorrect,
+     * or -1 if the letter had already been guessed or the game is finished
+     */
+    public int guess(int letter) {
+        if(letter < 0 || letter >= guessedLetters.length || guessedLetters[letter] || isFinished()) {
+            return -1;
+        }
+
+        guessedLetters[letter] = true;
+        guessOrder[guessCount++] = (byte) letter;
+
+        char guessedLetter = (char) (letter + 97);
+        int revealed = 0;
+
+        for(int i = 0; i < word.length(); i++) {
+            if(word.charAt(i) == guessedLetter) {
+                revealed++;
+            }
+        }
+
+        if(revealed == 0) {
+            remainingGuesses--;
+        } else {
+            correctlyGuessed += revealed;
+        }
+
+        return revealed;
+    }
+
+    /**
+     * Uses one of the player's hints
+     *
+     * @param letter The index of the hinted letter in the alphabet
+     *
+     * @return Whether the player had a hint left
+     */
+    public boolean useHint(int letter) {
+        if(remainingHints == 0 || letter < 0 || letter >= guessedLetters.length) {
+            return false;
+        }
+
+        remainingHints--;
+        hintedLetter = letter;
+        return true;
+    }
+
+    /**
+     * Restores the hints of a game that is being resumed
+     *
+     * @param remainingHints The number of hints the player has left
+     * @param hintedLetter The index of the letter hinted last in the alphabet, or -1 if no hint has been used
+     */
+    public void restoreHints(int remainingHints, int hintedLetter) {
+        this.remainingHints = Math.max(0, remainingHints);
+        this.hintedLetter = (hintedLetter >= 0 && hintedLetter < guessedLetters.length) ? hintedLetter : -1;
+    }
+
+    /**
+     * Gets the number of hints the player has left
+     *
+     * @return The remaining hints
+     */
+    public int getRemainingHints() {
+        return remainingHints;
+    }
+
+    /**
+     * Gets the letter hinted last
+     *
+     * @return The index of the letter in the alphabet, or -1 if no hint has been used
+     */
+    public int getHintedLetter() {
+        return hintedLetter;
+    }
+
+    /**
+     * Generates the word as seen by the player, with letters that have not been guessed replaced by underscores
+     *
+     * @return The partially revealed word
+     */
+    public String getRevealedWord() {
+        char[] revealed = new char[word.length()];
+
+        for(int i = 0; i < revealed.length; i++) {
+            char letter = word.charAt(i);
+            revealed[i] = isGuessed(letter - 97) ? letter : '_';
+        }
+
+        return new String(revealed);
+    }
+
+    /**
+     * Checks whether a letter has been guessed
+     *
+     * @param letter The index of the letter in the alphabet
+     *
+     * @return Whether the letter has been guessed
+     */
+    public boolean isGuessed(int letter) {
+        return letter >= 0 && letter < guessedLetters.length && guessedLetters[letter];
+    }
+
+    /**
+     * Gets the letters that have been guessed, in the order they were guessed. Games saved before the order was
+     * recorded only have the letters guessed since they were resumed.
+     *
+     * @return The guessed letters
+     */
+    public String getGuessOrder() {
+        char[] letters = new char[guessCount];
+
+        for(int i = 0; i < guessCount; i++) {
+            letters[i] = (char) (guessOrder[i] + 97);
+        }
+
+        return new String(letters);
+    }
+
+    /**
+     * Checks whether the order of every guess is known
+     *
+     * @return Whether the order of every guess is known
+     */
+    public boolean isGuessOrderComplete() {
+        return isGuessOrderComplete(guessCount);
+    }
+
+    /**
+     * Checks whether a number of ordered guesses covers every guessed letter
+     *
+     * @param orderedGuesses The number of guesses whose order is known
+     *
+     * @return Whether the order of every guess is known
+     */
+    private boolean isGuessOrderComplete(int orderedGuesses) {
+        int guessed = 0;
+
+        for(boolean guessedLetter : guessedLetters) {
+            if(guessedLetter) {
+                guessed++;
+            }
+        }
+
+        return guessed == orderedGuesses;
+    }
+
+    /**
+     * Checks whether the player has revealed the whole word
+     *
+     * @return Whether the game has been won
+     */
+    public boolean isWon() {
+        return correctlyGuessed == word.length();
+    }
+
+    /**
+     * Checks whether the player has run out of guesses
+     *
+     * @return Whether the game has been lost
+     */
+    public boolean isLost() {
+        return remainingGuesses == 0;
+    }
+
+    /**
+     * Checks whether the player has won or lost the game
+     *
+     * @return Whether the game is finished
+     */
+    public boolean isFinished() {
+        return isWon() || isLost();
+    }
+
+    /**
+     * Gets the word to be guessed
+     *
+     * @return The word to be guessed
+     */
+    public String getWord() {
+        return word;
+    }
+
+    /**
+     * Gets the number of incorrect guesses left
+     *
+     * @return The remaining guesses
+     */
+    public int getRemainingGuesses() {
+        return remainingGuesses;
+    }
+
+    /**
+     * Gets the number of letters of the word that have been revealed
+     *
+     * @return The number of correctly guessed letters
+     */
+    public int getCorrectlyGuessed() {
+        return correctlyGuessed;
+    }
+}
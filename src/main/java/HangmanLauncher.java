@@ -0,0 +1,41 @@
+import javafx.application.Application;
+
+import java.io.IOException;
+
+/**
+ * This starts the program. Hangman extends Application, so the Java launcher starts the JavaFX toolkit before
+ * calling its main method, which needs a display. The modes that run without the screen are started from this
+ * class instead, and only the game itself starts the toolkit.
+ *
+ * @author Pratik Gurung
+ */
+public class HangmanLauncher {
+
+    /**
+     * Starts the program
+     *
+     * @param args Command Line arguments, --script plays games from commands on standard input without the screen
+     *               --coordinator [port] coordinates games shared between processes and --analytics directory
+     *               reports statistics about the games saved in a directory
+     *
+     * @throws IOException If the commands could not be read or the coordinator could not be started
+     */
+    public static void main(String[] args) throws IOException {
+        if(args.length > 0 && args[0].equals("--script")) {
+            HangmanScript.runStandardStreams();
+            return;
+        }
+
+        if(args.length > 0 && args[0].equals("--coordinator")) {
+            HandoffCoordinator.run((args.length > 1) ? Integer.parseInt(args[1]) : HandoffCoordinator.DEFAULT_PORT);
+            return;
+        }
+
+        if(args.length > 1 && args[0].equals("--analytics")) {
+            GameAnalytics.run(args[1]);
+            return;
+        }
+
+        Application.launch(Hangman.class, args);
+    }
+}
@@ -0,0 +1,184 @@
+import javafx.animation.AnimationTimer;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.ArcType;
+import javafx.scene.shape.StrokeLineCap;
+
+/**
+ * This draws the image of the hanging man on a single canvas.
+ *
+ * Each missed guess animates the stroke of the next body part. The canvas is small and has at most ten strokes,
+ * so each frame clears it and redraws them without clipping or saving the state of the graphics context.
+ *
+ * @author Pratik Gurung
+ */
+public class HangmanRenderer {
+
+    public static final int PARTS = 10;
+
+    private static final double STROKE_WIDTH = 5;
+    private static final long ANIMATION_NANOS = 250_000_000L;
+
+    private static final int HEAD = 4;
+    private static final double HEAD_RADIUS = 25;
+
+    //Start and end points of every part, in the order the parts are drawn. The head uses its centre.
+    private static final double[][] PARTS_POINTS = {
+            {40, 370, 290, 370},    //Base
+            {40, 370, 40, 130},     //Vertical line
+            {40, 130, 210, 130},    //Horizontal line
+            {210, 130, 210, 165},   //Hang rope
+            {210, 190, 210, 190},   //Head
+            {210, 215, 210, 285},   //Body
+            {210, 285, 185, 310},   //Left leg
+            {210, 285, 235, 310},   //Right leg
+            {210, 235, 190, 265},   //Left arm
+            {210, 235, 230, 265}    //Right arm
+    };
+
+    private final Canvas canvas;
+    private final GraphicsContext graphics;
+    private final AnimationTimer timer;
+
+    private int shownParts = 0;
+    private int targetParts = 0;
+    private long animationStart = 0;
+    private boolean animating = false;
+
+    /**
+     * Creates the renderer and the canvas that it draws on
+     */
+    public HangmanRenderer() {
+        canvas = new Canvas(300, 380);
+        canvas.setMouseTransparent(true);
+
+        graphics = canvas.getGraphicsContext2D();
+        graphics.setStroke(Color.BLACK);
+        graphics.setLineWidth(STROKE_WIDTH);
+        graphics.setLineCap(StrokeLineCap.SQUARE);
+
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                animate(now);
+            }
+        };
+    }
+
+    /**
+     * Gets the canvas on which the hanging man is drawn
+     *
+     * @return The canvas
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Immediately draws the given number of parts, without animating
+     *
+     * @param parts The number of parts to show
+     */
+    public void show(int parts) {
+        stopAnimation();
+
+        shownParts = Math.max(0, Math.min(parts, PARTS));
+        targetParts = shownParts;
+
+        redraw(shownParts, 0);
+    }
+
+    /**
+     * Animates the drawing of every part up to the given number of parts
+     *
+     * @param parts The number of parts to show once the animation is finished
+     */
+    public void reveal(int parts) {
+        parts = Math.min(parts, PARTS);
+
+        if(parts < shownParts) {
+            show(parts);
+            return;
+        }
+
+        targetParts = parts;
+
+        if(!animating && shownParts < targetParts) {
+            animating = true;
+            animationStart = 0;
+            timer.start();
+        }
+    }
+
+    /**
+     * Draws a single frame of the animation
+     *
+     * @param now The time of the current frame in nanoseconds
+     */
+    private void animate(long now) {
+        if(animationStart == 0) {
+            animationStart = now;
+        }
+
+        double progress = Math.min(1, (double) (now - animationStart) / ANIMATION_NANOS);
+        redraw(shownParts, progress);
+
+        if(progress >= 1) {
+            shownParts++;
+            animationStart = now;
+
+            if(shownParts >= targetParts) {
+                stopAnimation();
+            }
+        }
+    }
+
+    /**
+     * Stops the animation, if there is one
+     */
+    private void stopAnimation() {
+        if(animating) {
+            timer.stop();
+            animating = false;
+        }
+    }
+
+    /**
+     * Redraws every part that has been shown, followed by the part being animated
+     *
+     * @param part The part being animated, which is the number of parts already shown
+     * @param progress How much of the part has been drawn, from 0 to 1, where 0 draws nothing
+     */
+    private void redraw(int part, double progress) {
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+        for(int i = 0; i < part; i++) {
+            drawPart(i, 1);
+        }
+
+        if(part < PARTS && progress > 0) {
+            drawPart(part, progress);
+        }
+    }
+
+    /**
+     * Draws a part of the hanging man
+     *
+     * @param part The part to draw
+     * @param progress How much of the part to draw, from 0 to 1
+     */
+    private void drawPart(int part, double progress) {
+        double[] points = PARTS_POINTS[part];
+
+        if(part == HEAD) {
+            //Drawing the head clockwise from the top, where it meets the rope
+            graphics.strokeArc(points[0] - HEAD_RADIUS, points[1] - HEAD_RADIUS,
+                    HEAD_RADIUS * 2, HEAD_RADIUS * 2, 90, -360 * progress, ArcType.OPEN);
+        } else {
+            graphics.strokeLine(points[0], points[1],
+                    points[0] + (points[2] - points[0]) * progress,
+                    points[1] + (points[3] - points[1]) * progress);
+        }
+    }
+}
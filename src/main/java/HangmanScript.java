@@ -0,0 +1,386 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This drives games of Hangman from lines of text, without the graphical interface.
+ *
+ * Each command is a single line and gets a single line in response:
+ * <pre>
+ *     new [word]     Starts a new game, with a random word unless one is given
+ *     guess letter   Guesses a letter in the current game
+ *     state          Describes the current game
+ *     hint           Suggests a letter, using one of the hints for the current game
+ *     save path      Saves the current game to a .hng file
+ *     load path      Resumes a game saved to a .hng file
+ *     publish id     Shares the current game through the coordinator so that another process can claim it
+ *     claim id       Continues a game shared by another process through the coordinator
+ *     quit           Stops reading commands
+ * </pre>
+ * Responses describing a game have the form {@code result word remainingGuesses status guessedLetters}, where
+ * result is ok, hit, miss or repeat, word has underscores for letters that have not been guessed, status is
+ * playing, won or lost and guessedLetters is - when no letters have been guessed. Errors are reported as
+ * {@code error message}, and hints as {@code hint letter remainingHints}.
+ *
+ * The coordinator is found at the host:port given by the hangman.coordinator system property, which defaults to
+ * the local machine. Once a game has been published or claimed, every guess and hint is sent to the coordinator.
+ * Hints are kept with the game, so a game that is loaded or claimed only has the hints that were left.
+ *
+ * @author Pratik Gurung
+ */
+public class HangmanScript {
+
+    private HangmanGame game;
+    private HintEngine hints;
+
+    private HandoffClient handoff;
+    private boolean sharingGame = false;
+
+    /**
+     * Reads commands until the input ends or a quit command is read, writing a response for each command
+     *
+     * @param in The commands
+     * @param out The responses
+     *
+     * @throws IOException If the commands could not be read
+     */
+    public void run(BufferedReader in, Writer out) throws IOException {
+        PrintWriter writer = new PrintWriter(out, false);
+        String line = in.readLine();
+
+        while (line != null) {
+            line = line.trim();
+
+            if(line.equalsIgnoreCase("quit")) {
+                break;
+            }
+
+            if(!line.isEmpty() && !line.startsWith("#")) {
+                writer.println(execute(line));
+            }
+
+            //Only flushing once every command that has already arrived has been answered
+            if(!in.ready()) {
+                writer.flush();
+            }
+
+            line = in.readLine();
+        }
+
+        writer.flush();
+
+        if(handoff != null) {
+            handoff.close();
+        }
+    }
+
+    /**
+     * Runs a single command
+     *
+     * @param command The command
+     *
+     * @return The response to the command
+     */
+    public String execute(String command) {
+        String[] parts = command.trim().split("\\s+", 2);
+        String name = parts[0].toLowerCase();
+        String argument = (parts.length > 1) ? parts[1].trim() : null;
+
+        try {
+            switch(name) {
+                case "new":
+                    return newGame(argument);
+                case "guess":
+                    return guess(argument);
+                case "state":
+                    return describe("ok");
+                case "hint":
+                    return hint();
+                case "save":
+                    return save(argument);
+                case "load":
+                    return load(argument);
+                case "publish":
+                    return publish(argument);
+                case "claim":
+                    return claim(argument);
+                default:
+                    return "error unknown command " + name;
+            }
+        } catch (FileNotFoundException e) {
+            return "error could not find " + argument;
+        } catch (IOException e) {
+            return "error " + ((argument == null) ? e.getMessage() : "could not read " + argument);
+        } catch (Exception e) {
+            return "error " + e.getMessage();
+        }
+    }
+
+    /**
+     * Starts a new game
+     *
+     * @param word The word to be guessed, or null to select a random word
+     *
+     * @return The response to the command
+     *
+     * @throws IOException If the dictionary could not be read
+     */
+    private String newGame(String word) throws IOException {
+        if(word == null) {
+            word = Dictionary.getInstance().getRandomWord();
+        } else if(!word.matches("[A-Za-z]+")) {
+            return "error words can only contain letters";
+        }
+
+        game = new HangmanGame(word);
+        hints = null;
+        sharingGame = false;
+        return describe("ok");
+    }
+
+    /**
+     * Guesses a letter in the current game
+     *
+     * @param letter The guessed letter
+     *
+     * @return The response to the command
+     */
+    private String guess(String letter) {
+        if(game == null) {
+            return "error no game in progress";
+        }
+
+        if(letter == null || !letter.matches("[A-Za-z]")) {
+            return "error a single letter must be guessed";
+        }
+
+        int index = Character.toLowerCase(letter.charAt(0)) - 97;
+        int revealed = game.guess(index);
+
+        if(revealed == -1) {
+            return describe("repeat");
+        }
+
+        if(hints != null) {
+            hints.update(index);
+        }
+
+        if(sharingGame) {
+            try {
+                handoff.sendGuess(index);
+            } catch (IOException e) {
+                sharingGame = false;
+                return "error could not send the guess to the coordinator";
+            }
+        }
+
+        return describe((revealed > 0) ? "hit" : "miss");
+    }
+
+    /**
+     * Suggests a letter in the current game
+     *
+     * @return The response to the command
+     *
+     * @throws IOException If the dictionary could not be read
+     */
+    private String hint() throws IOException {
+        if(game == null) {
+            return "error no game in progress";
+        }
+
+        //Hints are only prepared for games in which they are asked for
+        if(hints == null) {
+            hints = new HintEngine(LetterFrequencies.getInstance(), game);
+        }
+
+        int remainingHints = game.getRemainingHints();
+        int letter = hints.useHint();
+
+        if(letter == -1) {
+            return "error no hints left";
+        }
+
+        if(sharingGame && game.getRemainingHints() != remainingHints) {
+            try {
+                handoff.sendHint(letter);
+            } catch (IOException e) {
+                sharingGame = false;
+                return "error could not send the hint to the coordinator";
+            }
+        }
+
+        return "hint " + (char) (letter + 97) + " " + hints.getRemainingHints();
+    }
+
+    /**
+     * Saves the current game
+     *
+     * @param path The file to save the game to
+     *
+     * @return The response to the command
+     *
+     * @throws IOException If the file could not be written
+     */
+    private String save(String path) throws IOException {
+        if(game == null) {
+            return "error no game in progress";
+        }
+
+        if(path == null || !path.endsWith(".hng")) {
+            return "error games must be saved with a .hng extension";
+        }
+
+        PrintWriter writer = new PrintWriter(path);
+        writer.println(game.toSaveData());
+        writer.close();
+
+        return describe("ok");
+    }
+
+    /**
+     * Resumes a saved game
+     *
+     * @param path The file the game was saved to
+     *
+     * @return The response to the command
+     *
+     * @throws IOException If the file could not be read
+     */
+    private String load(String path) throws IOException {
+        if(path == null) {
+            return "error a file must be given";
+        }
+
+        BufferedReader reader = new BufferedReader(new FileReader(path));
+
+        try {
+            game = HangmanGame.read(reader);
+        } finally {
+            reader.close();
+        }
+
+        hints = null;
+        sharingGame = false;
+
+        return describe("ok");
+    }
+
+    /**
+     * Shares the current game through the coordinator
+     *
+     * @param id The identifier other processes use to claim the game
+     *
+     * @return The response to the command
+     *
+     * @throws IOException If the game could not be sent
+     */
+    private String publish(String id) throws IOException {
+        if(game == null) {
+            return "error no game in progress";
+        }
+
+        if(id == null) {
+            return "error an identifier must be given";
+        }
+
+        getHandoff().publish(id, game);
+        sharingGame = true;
+
+        return describe("ok");
+    }
+
+    /**
+     * Continues a game shared through the coordinator
+     *
+     * @param id The identifier the game was published with
+     *
+     * @return The response to the command
+     *
+     * @throws IOException If the game could not be received
+     */
+    private String claim(String id) throws IOException {
+        if(id == null) {
+            return "error an identifier must be given";
+        }
+
+        HangmanGame claimedGame = getHandoff().claim(id);
+
+        //The game being played, and whether it is being shared, are left as they were
+        if(claimedGame == null) {
+            return "error no game was published as " + id;
+        }
+
+        game = claimedGame;
+        hints = null;
+        sharingGame = true;
+
+        return describe("ok");
+    }
+
+    /**
+     * Gets the connection to the coordinator, connecting the first time it is needed
+     *
+     * @return The connection to the coordinator
+     *
+     * @throws IOException If the coordinator could not be reached
+     */
+    private HandoffClient getHandoff() throws IOException {
+        if(handoff == null) {
+            String address = System.getProperty("hangman.coordinator", "localhost:" + HandoffCoordinator.DEFAULT_PORT);
+            int separator = address.lastIndexOf(':');
+
+            handoff = new HandoffClient(address.substring(0, separator),
+                    Integer.parseInt(address.substring(separator + 1)));
+        }
+
+        return handoff;
+    }
+
+    /**
+     * Describes the current game
+     *
+     * @param result The result of the command
+     *
+     * @return The description of the game
+     */
+    private String describe(String result) {
+        if(game == null) {
+            return "error no game in progress";
+        }
+
+        StringBuilder guessed = new StringBuilder();
+
+        for(int i = 0; i < 26; i++) {
+            if(game.isGuessed(i)) {
+                guessed.append((char) (i + 97));
+            }
+        }
+
+        String status = game.isWon() ? "won" : (game.isLost() ? "lost" : "playing");
+
+        //The whole word is shown once the game is finished, as it is on screen
+        String word = game.isFinished() ? game.getWord() : game.getRevealedWord();
+
+        return result + " " + word + " " + game.getRemainingGuesses() + " " + status + " "
+                + ((guessed.length() == 0) ? "-" : guessed.toString());
+    }
+
+    /**
+     * Reads commands from standard input and writes responses to standard output
+     *
+     * @throws IOException If the commands could not be read
+     */
+    public static void runStandardStreams() throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        new HangmanScript().run(in, out);
+    }
+}
@@ -0,0 +1,198 @@
+/**
+ * This suggests letters to the player, based on the words in the dictionary that could still be the word to guess.
+ *
+ * The letter counts for words of the same length are copied from {@link LetterFrequencies} when the game starts.
+ * After every guess, the words that no longer match are removed and their letters are subtracted from the counts,
+ * so a hint only has to look at the counts for the positions that have not been revealed.
+ *
+ * @author Pratik Gurung
+ */
+public class HintEngine {
+
+    public static final int DEFAULT_HINTS = 3;
+
+    private final Dictionary dictionary;
+    private final HangmanGame game;
+    private final String word;
+
+    private final int[] candidates;
+    private int candidateCount;
+
+    //Number of candidates with each letter at each position, indexed by position * 26 + letter
+    private final int[] positionCounts;
+
+
+    /**
+     * Creates the hints for a game, taking into account the letters already guessed. The number of hints left
+     * is kept by the game.
+     *
+     * @param frequencies The letter frequencies of the dictionary
+     * @param game The game
+     */
+    public HintEngine(LetterFrequencies frequencies, HangmanGame game) {
+        this.dictionary = frequencies.getDictionary();
+        this.game = game;
+        this.word = game.getWord();
+
+        int length = word.length();
+        int first = dictionary.getFirstWithLength(length);
+        int end = (length > dictionary.getMaxLength()) ? first : dictionary.getEndWithLength(length);
+
+        candidates = new int[end - first];
+        for(int i = 0; i < candidates.length; i++) {
+            candidates[i] = first + i;
+        }
+        candidateCount = candidates.length;
+
+        positionCounts = frequencies.copyPositionCounts(length);
+
+        for(int letter = 0; letter < 26; letter++) {
+            if(game.isGuessed(letter)) {
+                update(letter);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of hints per game, set with the hangman.hints system property
+     *
+     * @return The number of hints per game
+     */
+    public static int getHintsPerGame() {
+        return Integer.getInteger("hangman.hints", DEFAULT_HINTS);
+    }
+
+    /**
+     * Removes the words that do not match a guess
+     *
+     * @param letter The index of the guessed letter in the alphabet
+     */
+    public void update(int letter) {
+        int bit = 1 << letter;
+        boolean inWord = word.indexOf(letter + 97) != -1;
+
+        int i = 0;
+
+        while (i < candidateCount) {
+            int candidate = candidates[i];
+
+            if(matches(candidate, letter, bit, inWord)) {
+                i++;
+            } else {
+                //Subtracting the letters of the removed word and replacing it with the last candidate
+                for(int position = 0; position < word.length(); position++) {
+                    positionCounts[position * 26 + dictionary.getLetter(candidate, position)]--;
+                }
+
+                candidates[i] = candidates[--candidateCount];
+            }
+        }
+    }
+
+    /**
+     * Checks whether a word matches a guess
+     *
+     * @param candidate The index of the word in the dictionary
+     * @param letter The index of the guessed letter in the alphabet
+     * @param bit The guessed letter as a letter mask
+     * @param inWord Whether the guessed letter is in the word to guess
+     *
+     * @return Whether the word matches the guess
+     */
+    private boolean matches(int candidate, int letter, int bit, boolean inWord) {
+        boolean inCandidate = (dictionary.getLetterMask(candidate) & bit) != 0;
+
+        if(inWord != inCandidate) {
+            return false;
+        }
+
+        if(!inWord) {
+            return true;
+        }
+
+        //The guessed letter has to be at exactly the positions it was revealed at
+        for(int position = 0; position < word.length(); position++) {
+            if((word.charAt(position) - 97 == letter) != (dictionary.getLetter(candidate, position) == letter)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Finds the letter that has not been guessed that is most likely to be in the word
+     *
+     * @return The index of the letter in the alphabet, or -1 if every letter has been guessed
+     */
+    public int suggest() {
+        int best = -1;
+        int bestScore = -1;
+
+        for(int letter = 0; letter < 26; letter++) {
+            if(game.isGuessed(letter)) {
+                continue;
+            }
+
+            int score = 0;
+
+            for(int position = 0; position < word.length(); position++) {
+                if(!game.isGuessed(word.charAt(position) - 97)) {
+                    //Words that are not in the dictionary are only hinted with their own letters
+                    score += (candidateCount > 0) ? positionCounts[position * 26 + letter]
+                            : ((word.charAt(position) - 97 == letter) ? 1 : 0);
+                }
+            }
+
+            if(score > bestScore) {
+                best = letter;
+                bestScore = score;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Uses one of the player's hints. Asking again before anything else has been guessed gives the same letter
+     * without using another hint.
+     *
+     * @return The suggested letter, or -1 if there are no hints left or every letter has been guessed
+     */
+    public int useHint() {
+        if(game.isFinished()) {
+            return -1;
+        }
+
+        int letter = suggest();
+
+        //The hinted letter is still suggested until it has been guessed
+        if(letter != -1 && letter == game.getHintedLetter()) {
+            return letter;
+        }
+
+        if(letter == -1 || !game.useHint(letter)) {
+            return -1;
+        }
+
+        return letter;
+    }
+
+    /**
+     * Gets the number of hints the player has left in the game
+     *
+     * @return The remaining hints
+     */
+    public int getRemainingHints() {
+        return game.getRemainingHints();
+    }
+
+    /**
+     * Gets the number of words in the dictionary that could still be the word to guess
+     *
+     * @return The number of candidate words
+     */
+    public int getCandidateCount() {
+        return candidateCount;
+    }
+}
@@ -0,0 +1,97 @@
+import java.util.Arrays;
+
+/**
+ * This buffers the letters typed by the player until the game applies them.
+ *
+ * Keys that are held down and repeated by the keyboard, letters that have already been guessed
+ * and letters that are already waiting to be applied are dropped as soon as they are typed.
+ * Since every letter can only be waiting once, the buffer never holds more than 26 letters.
+ *
+ * @author Pratik Gurung
+ */
+public class KeyInputBuffer {
+
+    private final int[] queue = new int[26];
+    private int head = 0;
+    private int size = 0;
+
+    private final boolean[] queued = new boolean[26];
+    private final boolean[] held = new boolean[26];
+
+    /**
+     * Records that a letter key has been pressed
+     *
+     * @param letter The index of the letter in the alphabet
+     * @param alreadyGuessed Whether the letter has already been guessed in the current game
+     *
+     * @return Whether the letter was added to the buffer
+     */
+    public boolean press(int letter, boolean alreadyGuessed) {
+        //A key that is pressed again before being released is being repeated by the keyboard
+        if(held[letter]) {
+            return false;
+        }
+        held[letter] = true;
+
+        if(alreadyGuessed || queued[letter]) {
+            return false;
+        }
+
+        queued[letter] = true;
+        queue[(head + size) % queue.length] = letter;
+        size++;
+        return true;
+    }
+
+    /**
+     * Records that a letter key has been released
+     *
+     * @param letter The index of the letter in the alphabet
+     */
+    public void release(int letter) {
+        held[letter] = false;
+    }
+
+    /**
+     * Takes the letter that has been waiting the longest from the buffer
+     *
+     * @return The index of the letter in the alphabet, or -1 if the buffer is empty
+     */
+    public int poll() {
+        if(size == 0) {
+            return -1;
+        }
+
+        int letter = queue[head];
+        head = (head + 1) % queue.length;
+        size--;
+        queued[letter] = false;
+        return letter;
+    }
+
+    /**
+     * Checks whether there are letters waiting to be applied
+     *
+     * @return Whether the buffer is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Drops every letter waiting to be applied
+     */
+    public void clear() {
+        while (poll() != -1) {
+            //Dropping the letter
+        }
+    }
+
+    /**
+     * Records that every key has been released
+     */
+    public void releaseAll() {
+        //A key released while a popup or file chooser has focus is never reported as released
+        Arrays.fill(held, false);
+    }
+}
@@ -0,0 +1,100 @@
+import java.io.IOException;
+
+/**
+ * This counts how often every letter appears at every position in the words of each length in the dictionary.
+ * The counts are built once and copied by every {@link HintEngine}. In the low-memory profile the counts are not
+ * kept, and are instead counted for a single length whenever a game asks for a hint.
+ *
+ * @author Pratik Gurung
+ */
+public class LetterFrequencies {
+
+    private static LetterFrequencies instance;
+
+    private final Dictionary dictionary;
+
+    //Number of words with each letter at each position, indexed by length and then by position * 26 + letter
+    private final int[][] positionCounts;
+
+    /**
+     * Counts the letters of every word in a dictionary
+     *
+     * @param dictionary The dictionary
+     * @param keepCounts Whether the counts are built straight away and kept, or counted whenever they are needed
+     */
+    public LetterFrequencies(Dictionary dictionary, boolean keepCounts) {
+        this.dictionary = dictionary;
+
+        if(keepCounts) {
+            positionCounts = new int[dictionary.getMaxLength() + 1][];
+
+            for(int length = 0; length < positionCounts.length; length++) {
+                positionCounts[length] = countPositions(length);
+            }
+        } else {
+            positionCounts = null;
+        }
+    }
+
+    /**
+     * Counts how often every letter appears at every position in the words of a length
+     *
+     * @param length The length of the words
+     *
+     * @return The counts, indexed by position * 26 + letter
+     */
+    private int[] countPositions(int length) {
+        int[] counts = new int[length * 26];
+
+        if(length > dictionary.getMaxLength()) {
+            return counts;
+        }
+
+        for(int word = dictionary.getFirstWithLength(length); word < dictionary.getEndWithLength(length); word++) {
+            for(int position = 0; position < length; position++) {
+                counts[position * 26 + dictionary.getLetter(word, position)]++;
+            }
+        }
+
+        return counts;
+    }
+
+    /**
+     * Gets the letter frequencies of the dictionary, counting them the first time they are needed
+     *
+     * @return The letter frequencies
+     *
+     * @throws IOException If the dictionary could not be read
+     */
+    public static synchronized LetterFrequencies getInstance() throws IOException {
+        if(instance == null) {
+            instance = new LetterFrequencies(Dictionary.getInstance(), !MemoryBudget.isLowMemory());
+        }
+
+        return instance;
+    }
+
+    /**
+     * Copies the number of words of a length with each letter at each position
+     *
+     * @param length The length of the words
+     *
+     * @return The counts, indexed by position * 26 + letter
+     */
+    public int[] copyPositionCounts(int length) {
+        if(positionCounts == null || length >= positionCounts.length) {
+            return countPositions(length);
+        }
+
+        return positionCounts[length].clone();
+    }
+
+    /**
+     * Gets the dictionary the letters were counted from
+     *
+     * @return The dictionary
+     */
+    public Dictionary getDictionary() {
+        return dictionary;
+    }
+}
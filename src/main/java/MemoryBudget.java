@@ -0,0 +1,157 @@
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This measures how much heap the game keeps, for kiosks that run with little memory.
+ *
+ * The low-memory profile is turned on with the hangman.lowMemory system property. In this profile the heap kept
+ * after every garbage collection the JVM runs is recorded in the background, and a warning is printed at the end
+ * of a game if it is above the ceiling set in megabytes with the hangman.heapCeiling system property. Collections
+ * are never forced while the game is being played.
+ *
+ * @author Pratik Gurung
+ */
+public class MemoryBudget {
+
+    public static final long DEFAULT_CEILING_MEGABYTES = 32;
+
+    private static boolean watching = false;
+
+    //Heap in use after the most recent garbage collection, or -1 before the first one
+    private static volatile long retainedAfterCollection = -1;
+
+    /**
+     * Checks whether the low-memory profile is turned on
+     *
+     * @return Whether the low-memory profile is turned on
+     */
+    public static boolean isLowMemory() {
+        return Boolean.getBoolean("hangman.lowMemory");
+    }
+
+    /**
+     * Gets the most heap the game should keep
+     *
+     * @return The ceiling in bytes
+     */
+    public static long getCeiling() {
+        return Long.getLong("hangman.heapCeiling", DEFAULT_CEILING_MEGABYTES) * 1024 * 1024;
+    }
+
+    /**
+     * Measures the heap that is still in use after forcing garbage collections. This stops every thread while the
+     * collections run, so it is only used by the memory test and not while a game is being played.
+     *
+     * @return The retained heap in bytes
+     */
+    public static long measureRetainedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+
+        //Collecting until the heap stops shrinking, since a single collection may not free everything
+        for(int i = 0; i < 5; i++) {
+            memory.gc();
+            long measured = memory.getHeapMemoryUsage().getUsed();
+
+            if(measured >= used) {
+                break;
+            }
+            used = measured;
+        }
+
+        return used;
+    }
+
+    /**
+     * Starts recording the heap kept after every garbage collection, when the low-memory profile is turned on
+     */
+    public static synchronized void watch() {
+        if(watching || !isLowMemory()) {
+            return;
+        }
+        watching = true;
+
+        Set<String> heapPools = new HashSet<>();
+
+        for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if(pool.getType() == MemoryType.HEAP) {
+                heapPools.add(pool.getName());
+            }
+        }
+
+        //The notifications are sent on a thread of the JVM, so nothing is measured on the thread that asks
+        for(GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if(collector instanceof NotificationEmitter) {
+                ((NotificationEmitter) collector).addNotificationListener(
+                        (notification, handback) -> recordCollection(notification, heapPools), null, null);
+            }
+        }
+    }
+
+    /**
+     * Records the heap kept after a garbage collection
+     *
+     * @param notification The notification sent by the garbage collector
+     * @param heapPools The names of the memory pools that make up the heap
+     */
+    private static void recordCollection(Notification notification, Set<String> heapPools) {
+        if(!notification.getType().equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION)) {
+            return;
+        }
+
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        long used = 0;
+
+        for(Map.Entry<String, MemoryUsage> pool : info.getGcInfo().getMemoryUsageAfterGc().entrySet()) {
+            if(heapPools.contains(pool.getKey())) {
+                used += pool.getValue().getUsed();
+            }
+        }
+
+        retainedAfterCollection = used;
+    }
+
+    /**
+     * Warns if the heap kept after the most recent garbage collection is above the ceiling, when the low-memory
+     * profile is turned on. This only reads the last recorded value, so it can be called from the JavaFX thread.
+     *
+     * @param when What has just happened, for the warning
+     */
+    public static void check(String when) {
+        if(!isLowMemory()) {
+            return;
+        }
+
+        watch();
+        long retained = retainedAfterCollection;
+
+        if(retained > getCeiling()) {
+            System.out.println("Retained heap of " + toMegabytes(retained) + " MB at the last collection before "
+                    + when + " is above the ceiling of " + toMegabytes(getCeiling()) + " MB");
+        }
+    }
+
+    /**
+     * Converts bytes to megabytes
+     *
+     * @param bytes The number of bytes
+     *
+     * @return The number of megabytes, to one decimal place
+     */
+    private static String toMegabytes(long bytes) {
+        return String.format("%.1f", bytes / (1024.0 * 1024.0));
+    }
+}
@@ -0,0 +1,162 @@
+import javafx.application.Platform;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This checks that the heap kept by the game in the low-memory profile stays within a fixed budget.
+ *
+ * Every game is played the way it is on screen: it is started from the New button and the Start Playing button,
+ * a hint is asked for and letters are typed until the key pump finishes the game, which autosaves it after every
+ * guess, checks the memory budget and opens the popup. The popup is then closed. The alphabet, the boxes for the
+ * word, the toolbar icons and the backgrounds are all rebuilt by every game.
+ *
+ * JavaFX needs a display, which the build provides with the headless Monocle platform.
+ *
+ * @author Pratik Gurung
+ */
+public class MemoryBudgetTest {
+
+    private static final int GAMES = 1000;
+
+    private static final long BUDGET_BYTES = 32 * 1024 * 1024;
+
+    //Amount the heap may grow by over the games, which would otherwise suggest a leak
+    private static final long MAX_GROWTH_BYTES = 1024 * 1024;
+
+    /**
+     * Starts the JavaFX toolkit in the low-memory profile, with the autosave kept away from the player's own
+     *
+     * @throws Exception If the toolkit could not be started
+     */
+    @BeforeClass
+    public static void startToolkit() throws Exception {
+        Assume.assumeTrue("JavaFX needs a display or the Monocle platform",
+                System.getenv("DISPLAY") != null || "Monocle".equals(System.getProperty("glass.platform")));
+
+        System.setProperty("hangman.lowMemory", "true");
+        System.setProperty("user.home", Files.createTempDirectory("hangman").toString());
+
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+    }
+
+    /**
+     * Checks the heap kept after playing a thousand games one after another
+     *
+     * @throws Exception If a game could not be played
+     */
+    @Test
+    public void retainedHeapAfterThousandGamesIsWithinBudget() throws Exception {
+        Hangman hangman = onFxThread(Hangman::new);
+        Stage stage = onFxThread(() -> {
+            Stage primaryStage = new Stage();
+
+            try {
+                hangman.start(primaryStage);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+
+            return primaryStage;
+        });
+
+        //Playing one game first so that the dictionary, the letter frequencies and the reused nodes are created
+        playGame(hangman, stage);
+        long before = MemoryBudget.measureRetainedHeap();
+
+        for(int i = 0; i < GAMES; i++) {
+            playGame(hangman, stage);
+        }
+
+        long after = MemoryBudget.measureRetainedHeap();
+
+        System.out.println("Retained heap after " + GAMES + " games: " + after / 1024 + " KB, grew by "
+                + (after - before) / 1024 + " KB");
+
+        assertTrue("Retained heap of " + after + " bytes is above the budget of " + BUDGET_BYTES + " bytes",
+                after <= BUDGET_BYTES);
+        assertTrue("Retained heap grew by " + (after - before) + " bytes over " + GAMES + " games",
+                after - before <= MAX_GROWTH_BYTES);
+    }
+
+    /**
+     * Plays a game to the end on the screen and closes the popup shown when it is finished
+     *
+     * @param hangman The game
+     * @param stage The screen on which the game is being displayed
+     *
+     * @throws Exception If the game could not be played
+     */
+    private static void playGame(Hangman hangman, Stage stage) throws Exception {
+        onFxThread(() -> {
+            hangman.createNewGame(stage);
+            hangman.startGame(stage);
+
+            hangman.handleKeyTyped(new KeyEvent(KeyEvent.KEY_TYPED, "?", "", KeyCode.UNDEFINED,
+                    true, false, false, false), stage);
+
+            //Every letter is typed before the next pulse, so the key pump guesses them until the game is finished
+            for(int letter = 0; letter < 26; letter++) {
+                KeyCode code = KeyCode.getKeyCode(String.valueOf((char) ('A' + letter)));
+                hangman.handleKeyPress(new KeyEvent(KeyEvent.KEY_PRESSED, "", "", code,
+                        false, false, false, false), stage);
+                hangman.handleKeyRelease(new KeyEvent(KeyEvent.KEY_RELEASED, "", "", code,
+                        false, false, false, false));
+            }
+
+            return null;
+        });
+
+        Window popup = null;
+
+        while (popup == null) {
+            Thread.sleep(5);
+            popup = onFxThread(() -> Window.getWindows().stream()
+                    .filter(window -> window != stage && window.isShowing())
+                    .findFirst().orElse(null));
+        }
+
+        Window finishedPopup = popup;
+        onFxThread(() -> {
+            finishedPopup.hide();
+            return null;
+        });
+    }
+
+    /**
+     * Runs a task on the JavaFX thread and waits for it to finish
+     *
+     * @param task The task
+     * @param <T> The type of the result of the task
+     *
+     * @return The result of the task
+     *
+     * @throws Exception If the task failed
+     */
+    private static <T> T onFxThread(Supplier<T> task) throws Exception {
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        Platform.runLater(() -> {
+            try {
+                result.complete(task.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        return result.get();
+    }
+}